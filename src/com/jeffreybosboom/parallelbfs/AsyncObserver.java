@@ -0,0 +1,131 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs a generation hook (e.g., a {@link StatPrinter}) on another executor, so
+ * the search doesn't wait for it.  Values are queued and passed to the wrapped
+ * action one at a time, in order; when the queue is full, the oldest queued
+ * value is dropped (and counted) rather than blocking the search, so a slow
+ * observer skips ahead to the latest generation instead of stalling them.
+ * <p/>
+ * An observer retains up to its queue capacity of values plus the one the
+ * action is processing, so observers of large values such as frontiers
+ * should keep the queue short; the default holds one value.  Values passed to
+ * an observer must be safe to read after the caller moves on:
+ * {@link ParallelBFS#beforeGenerationAsync} passes unmodifiable views of
+ * frontier arrays the search no longer writes once its synchronous hooks have
+ * run, and {@link GenerationStats} are not modified after delivery.
+ * Observers must not mutate the states themselves.
+ * @param <T> the observed value type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class AsyncObserver<T> implements Consumer<T> {
+	private static final int DEFAULT_QUEUE_CAPACITY = 1;
+	private final Consumer<? super T> action;
+	private final Executor executor;
+	private final ArrayBlockingQueue<T> queue;
+	/**
+	 * Whether a drain task is scheduled or running.
+	 */
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private final LongAdder dropped = new LongAdder(), failed = new LongAdder();
+	/**
+	 * Creates an observer running the given action on a shared daemon thread
+	 * pool, queueing only the latest value.
+	 */
+	public AsyncObserver(Consumer<? super T> action) {
+		this(action, DefaultExecutor.INSTANCE, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * @param action the wrapped action
+	 * @param executor runs the action
+	 * @param queueCapacity the maximum number of values waiting for the action
+	 */
+	public AsyncObserver(Consumer<? super T> action, Executor executor, int queueCapacity) {
+		if (queueCapacity <= 0) throw new IllegalArgumentException("queue capacity must be positive: "+queueCapacity);
+		this.action = Objects.requireNonNull(action);
+		this.executor = Objects.requireNonNull(executor);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	@Override
+	public void accept(T value) {
+		while (!queue.offer(value))
+			if (queue.poll() != null)
+				dropped.increment();
+		schedule();
+	}
+
+	private void schedule() {
+		if (draining.compareAndSet(false, true))
+			executor.execute(this::drain);
+	}
+
+	private void drain() {
+		boolean owner = true;
+		try {
+			while (true) {
+				for (T value; (value = queue.poll()) != null; ) {
+					try {
+						action.accept(value);
+					} catch (RuntimeException e) {
+						//don't let one bad value wedge the observer
+						failed.increment();
+					}
+				}
+				draining.set(false);
+				owner = false;
+				//a value enqueued after our last poll but before we cleared the
+				//flag would otherwise wait for the next accept
+				if (queue.isEmpty() || !draining.compareAndSet(false, true))
+					return;
+				owner = true;
+			}
+		} finally {
+			//an Error from the action propagates, but mustn't leave the flag
+			//set so that no drain is ever scheduled again
+			if (owner)
+				draining.set(false);
+		}
+	}
+
+	/**
+	 * Returns the number of values dropped because newer values arrived while
+	 * the queue was full.
+	 */
+	public long dropped() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Returns the number of values for which the action threw an exception.
+	 */
+	public long failed() {
+		return failed.sum();
+	}
+
+	/**
+	 * Returns the number of values waiting for the action.
+	 */
+	public int pending() {
+		return queue.size();
+	}
+
+	private static final class DefaultExecutor {
+		static final ExecutorService INSTANCE = Executors.newCachedThreadPool(r -> {
+			Thread t = new Thread(r, "ParallelBFS-observer");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+}
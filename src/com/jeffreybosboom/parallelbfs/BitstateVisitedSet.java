@@ -0,0 +1,119 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.function.Supplier;
+
+/**
+ * A SPIN-style bitstate ("supertrace") visited set: a Bloom filter over
+ * {@link DataContainer} contents using a few bits per state.  A new state whose
+ * bits all happen to be set already is wrongly considered visited and omitted
+ * from the search; {@link #omissionProbability()} estimates how likely that is
+ * at the current occupancy.
+ * <p/>
+ * The k bit indices are derived from two independent 64-bit content hashes by
+ * double hashing, which performs like k independent hashes for Bloom filters.
+ * <p/>
+ * Each instance is one shard of a {@link ParallelBFS} visited set, so its size
+ * is per shard: a search with n shards created by
+ * {@code () -> new BitstateVisitedSet(bits, k)} uses n times {@code bits} bits,
+ * and each shard's probabilities describe only the states hashed to it.
+ * (The search combines them in its {@link GenerationStats}.)  Use
+ * {@link #shards} to split a total size across the shards instead.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class BitstateVisitedSet implements VisitedSet<DataContainer> {
+	private final long[] words;
+	private final long bits;
+	private final int hashes;
+	private long size = 0;
+	/**
+	 * The expected number of states omitted so far, updated every
+	 * {@link #OMISSION_UPDATE_INTERVAL} insertions.
+	 */
+	private double expectedOmissions = 0;
+	private static final int OMISSION_UPDATE_INTERVAL = 1024;
+	/**
+	 * The largest size whose word array fits in a Java array.
+	 */
+	private static final long MAX_BITS = (long)(Integer.MAX_VALUE - 8) * 64;
+	/**
+	 * @param bits the size of this shard's bit array, rounded up to a multiple
+	 * of 64
+	 * @param hashes the number of bits set per state
+	 */
+	public BitstateVisitedSet(long bits, int hashes) {
+		if (bits <= 0 || bits > MAX_BITS) throw new IllegalArgumentException("bad size: "+bits);
+		if (hashes <= 0) throw new IllegalArgumentException("hashes must be positive: "+hashes);
+		this.words = new long[(int)((bits + 63) / 64)];
+		this.bits = words.length * 64L;
+		this.hashes = hashes;
+	}
+
+	/**
+	 * Returns a factory for the given number of shards of a bitstate visited
+	 * set of the given total size, for {@link ParallelBFS#deduplicate(int,
+	 * Supplier)}.  Each shard gets an equal share of the bits.
+	 * @param totalBits the size of the bit arrays of all the shards together
+	 * @param hashes the number of bits set per state
+	 * @param shards the number of shards the search will create
+	 */
+	public static Supplier<BitstateVisitedSet> shards(long totalBits, int hashes, int shards) {
+		if (shards <= 0) throw new IllegalArgumentException("shards must be positive: "+shards);
+		if (totalBits <= 0 || totalBits / shards > MAX_BITS) throw new IllegalArgumentException("bad size: "+totalBits);
+		if (hashes <= 0) throw new IllegalArgumentException("hashes must be positive: "+hashes);
+		long bits = Math.max(1, totalBits / shards);
+		return () -> new BitstateVisitedSet(bits, hashes);
+	}
+
+	@Override
+	public boolean add(DataContainer state) {
+		long h1 = Hashing.hash64(state, 0x5DEECE66DL), h2 = Hashing.hash64(state, 0xB5297A4D3F84D5B5L) | 1;
+		boolean added = false;
+		for (int i = 0; i < hashes; ++i) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+			int word = (int)(bit >>> 6);
+			long mask = 1L << bit;
+			if ((words[word] & mask) == 0) {
+				words[word] |= mask;
+				added = true;
+			}
+		}
+		if (added && ++size % OMISSION_UPDATE_INTERVAL == 0)
+			expectedOmissions += OMISSION_UPDATE_INTERVAL * omissionProbability();
+		return added;
+	}
+
+	@Override
+	public boolean isExact() {
+		return false;
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the Bloom filter false-positive rate
+	 * {@code (1 - e^(-kn/m))^k} for the states added so far.
+	 */
+	@Override
+	public double omissionProbability() {
+		return Math.pow(-Math.expm1(-(double)hashes * size / bits), hashes);
+	}
+
+	/**
+	 * Returns the probability of at least one omission so far, treating
+	 * omissions as a Poisson process with the false-positive rate at each
+	 * insertion.
+	 */
+	@Override
+	public double collisionProbability() {
+		return -Math.expm1(-expectedOmissions);
+	}
+
+	@Override
+	public long estimatedBytes() {
+		return words.length * 8L;
+	}
+}
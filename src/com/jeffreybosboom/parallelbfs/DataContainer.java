@@ -56,6 +56,60 @@ public interface DataContainer {
 		}
 	}
 
+	/**
+	 * Returns a new container with the same contents as this one.
+	 */
+	public default DataContainer copy() {
+		DataContainer c = create(size());
+		for (int i = 0; i < size(); ++i)
+			c.set(i, get(i));
+		return c;
+	}
+
+	/**
+	 * Returns a copy of this container with the byte at the given index
+	 * replaced.  This container is not modified.
+	 */
+	public default DataContainer with(int index, byte b) {
+		DataContainer c = copy();
+		c.set(index, b);
+		return c;
+	}
+
+	public default void swap(int i, int j) {
+		byte t = get(i);
+		set(i, get(j));
+		set(j, t);
+	}
+
+	/**
+	 * Sets this container's contents from {@code size()} bytes of the given
+	 * array starting at the given offset.
+	 */
+	public default void copyFrom(byte[] src, int offset) {
+		if (offset < 0 || offset > src.length - size()) throw new IndexOutOfBoundsException(""+offset);
+		for (int i = 0; i < size(); ++i)
+			set(i, src[offset+i]);
+	}
+
+	public default void copyFrom(byte[] src) {
+		copyFrom(src, 0);
+	}
+
+	/**
+	 * Copies this container's contents into the given array starting at the
+	 * given offset.
+	 */
+	public default void copyInto(byte[] dst, int offset) {
+		if (offset < 0 || offset > dst.length - size()) throw new IndexOutOfBoundsException(""+offset);
+		for (int i = 0; i < size(); ++i)
+			dst[offset+i] = get(i);
+	}
+
+	public default void copyInto(byte[] dst) {
+		copyInto(dst, 0);
+	}
+
 	public default Stream<Byte> stream() {
 		return IntStream.range(0, size()).mapToObj(this::get);
 	}
@@ -87,6 +141,46 @@ public interface DataContainer {
 			case 22: return new DataContainer22();
 			case 23: return new DataContainer23();
 			case 24: return new DataContainer24();
+			case 25: return new DataContainer25();
+			case 26: return new DataContainer26();
+			case 27: return new DataContainer27();
+			case 28: return new DataContainer28();
+			case 29: return new DataContainer29();
+			case 30: return new DataContainer30();
+			case 31: return new DataContainer31();
+			case 32: return new DataContainer32();
+			case 33: return new DataContainer33();
+			case 34: return new DataContainer34();
+			case 35: return new DataContainer35();
+			case 36: return new DataContainer36();
+			case 37: return new DataContainer37();
+			case 38: return new DataContainer38();
+			case 39: return new DataContainer39();
+			case 40: return new DataContainer40();
+			case 41: return new DataContainer41();
+			case 42: return new DataContainer42();
+			case 43: return new DataContainer43();
+			case 44: return new DataContainer44();
+			case 45: return new DataContainer45();
+			case 46: return new DataContainer46();
+			case 47: return new DataContainer47();
+			case 48: return new DataContainer48();
+			case 49: return new DataContainer49();
+			case 50: return new DataContainer50();
+			case 51: return new DataContainer51();
+			case 52: return new DataContainer52();
+			case 53: return new DataContainer53();
+			case 54: return new DataContainer54();
+			case 55: return new DataContainer55();
+			case 56: return new DataContainer56();
+			case 57: return new DataContainer57();
+			case 58: return new DataContainer58();
+			case 59: return new DataContainer59();
+			case 60: return new DataContainer60();
+			case 61: return new DataContainer61();
+			case 62: return new DataContainer62();
+			case 63: return new DataContainer63();
+			case 64: return new DataContainer64();
 		}
 		if (size < 0) throw new IllegalArgumentException("negative size: "+size);
 		return new DataContainerN(size);
@@ -97,6 +191,10 @@ public interface DataContainer {
 //			emitClass(i);
 ////			System.out.format("case %d: return new DataContainer%d();%n", i, i);
 //		}
+//		for (int i = 25; i <= 64; ++i) {
+//			emitLongClass(i);
+////			System.out.format("case %d: return new DataContainer%d();%n", i, i);
+//		}
 //	}
 //
 //	static void emitClass(int i) {
@@ -130,7 +228,30 @@ public interface DataContainer {
 //		o.println("return "+i+";");
 //		o.println("}");
 //
+//		o.println("@Override public "+cn+" copy() {");
+//		o.println(cn+" c = new "+cn+"();");
+//		IntStream.range(0, i).mapToObj(x -> "c.b"+x+" = b"+x+";").forEachOrdered(o::println);
+//		o.println("return c;");
+//		o.println("}");
+//
+//		o.println("@Override public "+cn+" with(int index, byte data) {");
+//		o.println(cn+" c = copy();");
+//		o.println("c.set(index, data);");
+//		o.println("return c;");
+//		o.println("}");
+//
+//		o.println("@Override public void copyFrom(byte[] src, int offset) {");
+//		o.println("if (offset < 0 || offset > src.length - "+i+") throw new IndexOutOfBoundsException(\"\"+offset);");
+//		IntStream.range(0, i).mapToObj(x -> "b"+x+" = src[offset+"+x+"];").forEachOrdered(o::println);
+//		o.println("}");
+//
+//		o.println("@Override public void copyInto(byte[] dst, int offset) {");
+//		o.println("if (offset < 0 || offset > dst.length - "+i+") throw new IndexOutOfBoundsException(\"\"+offset);");
+//		IntStream.range(0, i).mapToObj(x -> "dst[offset+"+x+"] = b"+x+";").forEachOrdered(o::println);
+//		o.println("}");
+//
 //		o.println("@Override public boolean equals(Object o) {");
+//		o.println("if (o == this) return true;");
 //		o.println("if (o == null || getClass() != o.getClass()) return false;");
 //		o.println(cn+" n = ("+cn+")o;");
 //		o.print("return ");
@@ -146,6 +267,95 @@ public interface DataContainer {
 //
 //		o.println("}");
 //	}
+//
+//	/**
+//	 * Emits a class packing i bytes into ceil(i/8) longs, little-endian, with
+//	 * unused high bytes of the last word kept zero.
+//	 */
+//	static void emitLongClass(int i) {
+//		PrintStream o = System.out;
+//		String cn = "DataContainer"+i;
+//		int k = (i + 7) / 8;
+//		o.println("final class "+cn+" implements DataContainer {");
+//
+//		o.print("private long ");
+//		o.print(IntStream.range(0, k).mapToObj(x -> "w"+x).collect(Collectors.joining(", ")));
+//		o.println(";");
+//
+//		o.println(cn+"() {}");
+//
+//		o.println("@Override public byte get(int index) {");
+//		o.println("if (index < 0 || index >= "+i+") throw new IndexOutOfBoundsException(\"\"+index);");
+//		o.println("int shift = (index & 7) << 3;");
+//		o.println("switch (index >>> 3) {");
+//		for (int j = 0; j < k; ++j)
+//			o.printf("case %d: return (byte)(w%d >>> shift);%n", j, j);
+//		o.println("default: throw new AssertionError();");
+//		o.println("}");
+//		o.println("}");
+//
+//		o.println("@Override public void set(int index, byte data) {");
+//		o.println("if (index < 0 || index >= "+i+") throw new IndexOutOfBoundsException(\"\"+index);");
+//		o.println("int shift = (index & 7) << 3;");
+//		o.println("long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;");
+//		o.println("switch (index >>> 3) {");
+//		for (int j = 0; j < k; ++j)
+//			o.printf("case %d: w%d = (w%d & ~mask) | bits; break;%n", j, j, j);
+//		o.println("default: throw new AssertionError();");
+//		o.println("}");
+//		o.println("}");
+//
+//		o.println("@Override public int size() {");
+//		o.println("return "+i+";");
+//		o.println("}");
+//
+//		o.println("@Override public "+cn+" copy() {");
+//		o.println(cn+" c = new "+cn+"();");
+//		IntStream.range(0, k).mapToObj(x -> "c.w"+x+" = w"+x+";").forEachOrdered(o::println);
+//		o.println("return c;");
+//		o.println("}");
+//
+//		o.println("@Override public "+cn+" with(int index, byte data) {");
+//		o.println(cn+" c = copy();");
+//		o.println("c.set(index, data);");
+//		o.println("return c;");
+//		o.println("}");
+//
+//		o.println("@Override public void copyFrom(byte[] src, int offset) {");
+//		o.println("if (offset < 0 || offset > src.length - "+i+") throw new IndexOutOfBoundsException(\"\"+offset);");
+//		for (int j = 0; j < k; ++j) {
+//			int w = j;
+//			o.println("w"+w+" = "+IntStream.range(0, Math.min(8, i - 8*w))
+//					.mapToObj(b -> "(src[offset+"+(8*w+b)+"] & 0xFFL)"+(b == 0 ? "" : " << "+8*b))
+//					.collect(Collectors.joining(" | "))+";");
+//		}
+//		o.println("}");
+//
+//		o.println("@Override public void copyInto(byte[] dst, int offset) {");
+//		o.println("if (offset < 0 || offset > dst.length - "+i+") throw new IndexOutOfBoundsException(\"\"+offset);");
+//		IntStream.range(0, i).mapToObj(x -> "dst[offset+"+x+"] = (byte)(w"+x/8+(x % 8 == 0 ? "" : " >>> "+8*(x % 8))+");").forEachOrdered(o::println);
+//		o.println("}");
+//
+//		o.println("@Override public boolean equals(Object o) {");
+//		o.println("if (o == this) return true;");
+//		o.println("if (o == null || getClass() != o.getClass()) return false;");
+//		o.println(cn+" n = ("+cn+")o;");
+//		o.print("return ");
+//		o.print(IntStream.range(0, k).mapToObj(x -> "w"+x+" == n.w"+x).collect(Collectors.joining(" && ")));
+//		o.println(";");
+//		o.println("}");
+//
+//		o.println("@Override public int hashCode() {");
+//		o.println("long h = size();");
+//		for (int j = 0; j < k; ++j) {
+//			o.println("h = (h ^ w"+j+") * 0x9E3779B97F4A7C15L;");
+//			o.println("h ^= h >>> 29;");
+//		}
+//		o.println("return (int)(h ^ (h >>> 32));");
+//		o.println("}");
+//
+//		o.println("}");
+//	}
 }
 
 final class DataContainer0 implements DataContainer {
@@ -164,6 +374,10 @@ final class DataContainer0 implements DataContainer {
 		return 0;
 	}
 	@Override
+	public DataContainer copy() {
+		return this;
+	}
+	@Override
 	public boolean equals(Object o) {
 		return o != null && getClass() == o.getClass();
 	}
@@ -182,7 +396,10 @@ final class DataContainer0 implements DataContainer {
 final class DataContainerN implements DataContainer {
 	private final byte[] data;
 	DataContainerN(int size) {
-		this.data = new byte[size];
+		this(new byte[size]);
+	}
+	private DataContainerN(byte[] data) {
+		this.data = data;
 	}
 	@Override
 	public byte get(int index) {
@@ -197,6 +414,30 @@ final class DataContainerN implements DataContainer {
 		return data.length;
 	}
 	@Override
+	public DataContainer copy() {
+		return new DataContainerN(data.clone());
+	}
+	@Override
+	public DataContainer with(int index, byte b) {
+		byte[] d = data.clone();
+		d[index] = b;
+		return new DataContainerN(d);
+	}
+	@Override
+	public void swap(int i, int j) {
+		byte t = data[i];
+		data[i] = data[j];
+		data[j] = t;
+	}
+	@Override
+	public void copyFrom(byte[] src, int offset) {
+		System.arraycopy(src, offset, data, 0, data.length);
+	}
+	@Override
+	public void copyInto(byte[] dst, int offset) {
+		System.arraycopy(data, 0, dst, offset, data.length);
+	}
+	@Override
 	public void sort() {
 		Arrays.sort(data);
 	}
@@ -206,6 +447,8 @@ final class DataContainerN implements DataContainer {
 	}
 	@Override
 	public boolean equals(Object obj) {
+		if (obj == this)
+			return true;
 		if (obj == null)
 			return false;
 		if (getClass() != obj.getClass())
@@ -237,7 +480,26 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 1;
 }
+@Override public DataContainer1 copy() {
+DataContainer1 c = new DataContainer1();
+c.b0 = b0;
+return c;
+}
+@Override public DataContainer1 with(int index, byte data) {
+DataContainer1 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 1) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 1) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer1 n = (DataContainer1)o;
 return b0 == n.b0;
@@ -268,7 +530,29 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 2;
 }
+@Override public DataContainer2 copy() {
+DataContainer2 c = new DataContainer2();
+c.b0 = b0;
+c.b1 = b1;
+return c;
+}
+@Override public DataContainer2 with(int index, byte data) {
+DataContainer2 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 2) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 2) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer2 n = (DataContainer2)o;
 return b0 == n.b0 && b1 == n.b1;
@@ -302,7 +586,32 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 3;
 }
+@Override public DataContainer3 copy() {
+DataContainer3 c = new DataContainer3();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+return c;
+}
+@Override public DataContainer3 with(int index, byte data) {
+DataContainer3 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 3) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 3) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer3 n = (DataContainer3)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2;
@@ -339,7 +648,35 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 4;
 }
+@Override public DataContainer4 copy() {
+DataContainer4 c = new DataContainer4();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+return c;
+}
+@Override public DataContainer4 with(int index, byte data) {
+DataContainer4 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 4) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 4) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer4 n = (DataContainer4)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3;
@@ -379,7 +716,38 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 5;
 }
+@Override public DataContainer5 copy() {
+DataContainer5 c = new DataContainer5();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+return c;
+}
+@Override public DataContainer5 with(int index, byte data) {
+DataContainer5 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 5) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 5) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer5 n = (DataContainer5)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4;
@@ -422,7 +790,41 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 6;
 }
+@Override public DataContainer6 copy() {
+DataContainer6 c = new DataContainer6();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+return c;
+}
+@Override public DataContainer6 with(int index, byte data) {
+DataContainer6 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 6) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 6) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer6 n = (DataContainer6)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5;
@@ -468,7 +870,44 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 7;
 }
+@Override public DataContainer7 copy() {
+DataContainer7 c = new DataContainer7();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+return c;
+}
+@Override public DataContainer7 with(int index, byte data) {
+DataContainer7 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 7) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 7) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer7 n = (DataContainer7)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6;
@@ -517,7 +956,47 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 8;
 }
+@Override public DataContainer8 copy() {
+DataContainer8 c = new DataContainer8();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+return c;
+}
+@Override public DataContainer8 with(int index, byte data) {
+DataContainer8 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 8) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 8) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer8 n = (DataContainer8)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7;
@@ -569,7 +1048,50 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 9;
 }
+@Override public DataContainer9 copy() {
+DataContainer9 c = new DataContainer9();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+return c;
+}
+@Override public DataContainer9 with(int index, byte data) {
+DataContainer9 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 9) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 9) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer9 n = (DataContainer9)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8;
@@ -624,7 +1146,53 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 10;
 }
+@Override public DataContainer10 copy() {
+DataContainer10 c = new DataContainer10();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+return c;
+}
+@Override public DataContainer10 with(int index, byte data) {
+DataContainer10 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 10) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 10) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer10 n = (DataContainer10)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9;
@@ -682,7 +1250,56 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 11;
 }
+@Override public DataContainer11 copy() {
+DataContainer11 c = new DataContainer11();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+return c;
+}
+@Override public DataContainer11 with(int index, byte data) {
+DataContainer11 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 11) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 11) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer11 n = (DataContainer11)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10;
@@ -743,7 +1360,59 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 12;
 }
+@Override public DataContainer12 copy() {
+DataContainer12 c = new DataContainer12();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+return c;
+}
+@Override public DataContainer12 with(int index, byte data) {
+DataContainer12 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 12) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 12) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer12 n = (DataContainer12)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11;
@@ -807,7 +1476,62 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 13;
 }
+@Override public DataContainer13 copy() {
+DataContainer13 c = new DataContainer13();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+return c;
+}
+@Override public DataContainer13 with(int index, byte data) {
+DataContainer13 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 13) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 13) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer13 n = (DataContainer13)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12;
@@ -874,7 +1598,65 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 14;
 }
+@Override public DataContainer14 copy() {
+DataContainer14 c = new DataContainer14();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+return c;
+}
+@Override public DataContainer14 with(int index, byte data) {
+DataContainer14 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 14) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 14) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer14 n = (DataContainer14)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13;
@@ -944,7 +1726,68 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 15;
 }
+@Override public DataContainer15 copy() {
+DataContainer15 c = new DataContainer15();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+return c;
+}
+@Override public DataContainer15 with(int index, byte data) {
+DataContainer15 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 15) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 15) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer15 n = (DataContainer15)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14;
@@ -1017,7 +1860,71 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 16;
 }
+@Override public DataContainer16 copy() {
+DataContainer16 c = new DataContainer16();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+return c;
+}
+@Override public DataContainer16 with(int index, byte data) {
+DataContainer16 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 16) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 16) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer16 n = (DataContainer16)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15;
@@ -1093,7 +2000,74 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 17;
 }
+@Override public DataContainer17 copy() {
+DataContainer17 c = new DataContainer17();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+return c;
+}
+@Override public DataContainer17 with(int index, byte data) {
+DataContainer17 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 17) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 17) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer17 n = (DataContainer17)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16;
@@ -1172,7 +2146,77 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 18;
 }
+@Override public DataContainer18 copy() {
+DataContainer18 c = new DataContainer18();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+return c;
+}
+@Override public DataContainer18 with(int index, byte data) {
+DataContainer18 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 18) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 18) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer18 n = (DataContainer18)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17;
@@ -1254,7 +2298,80 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 19;
 }
+@Override public DataContainer19 copy() {
+DataContainer19 c = new DataContainer19();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+return c;
+}
+@Override public DataContainer19 with(int index, byte data) {
+DataContainer19 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 19) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 19) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer19 n = (DataContainer19)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18;
@@ -1339,7 +2456,83 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 20;
 }
+@Override public DataContainer20 copy() {
+DataContainer20 c = new DataContainer20();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+c.b19 = b19;
+return c;
+}
+@Override public DataContainer20 with(int index, byte data) {
+DataContainer20 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 20) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+b19 = src[offset+19];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 20) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+dst[offset+19] = b19;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer20 n = (DataContainer20)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18 && b19 == n.b19;
@@ -1427,7 +2620,86 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 21;
 }
+@Override public DataContainer21 copy() {
+DataContainer21 c = new DataContainer21();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+c.b19 = b19;
+c.b20 = b20;
+return c;
+}
+@Override public DataContainer21 with(int index, byte data) {
+DataContainer21 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 21) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+b19 = src[offset+19];
+b20 = src[offset+20];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 21) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+dst[offset+19] = b19;
+dst[offset+20] = b20;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer21 n = (DataContainer21)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18 && b19 == n.b19 && b20 == n.b20;
@@ -1518,7 +2790,89 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 22;
 }
+@Override public DataContainer22 copy() {
+DataContainer22 c = new DataContainer22();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+c.b19 = b19;
+c.b20 = b20;
+c.b21 = b21;
+return c;
+}
+@Override public DataContainer22 with(int index, byte data) {
+DataContainer22 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 22) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+b19 = src[offset+19];
+b20 = src[offset+20];
+b21 = src[offset+21];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 22) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+dst[offset+19] = b19;
+dst[offset+20] = b20;
+dst[offset+21] = b21;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer22 n = (DataContainer22)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18 && b19 == n.b19 && b20 == n.b20 && b21 == n.b21;
@@ -1612,7 +2966,92 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 23;
 }
+@Override public DataContainer23 copy() {
+DataContainer23 c = new DataContainer23();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+c.b19 = b19;
+c.b20 = b20;
+c.b21 = b21;
+c.b22 = b22;
+return c;
+}
+@Override public DataContainer23 with(int index, byte data) {
+DataContainer23 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 23) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+b19 = src[offset+19];
+b20 = src[offset+20];
+b21 = src[offset+21];
+b22 = src[offset+22];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 23) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+dst[offset+19] = b19;
+dst[offset+20] = b20;
+dst[offset+21] = b21;
+dst[offset+22] = b22;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer23 n = (DataContainer23)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18 && b19 == n.b19 && b20 == n.b20 && b21 == n.b21 && b22 == n.b22;
@@ -1709,7 +3148,95 @@ default: throw new IndexOutOfBoundsException(""+index);
 @Override public int size() {
 return 24;
 }
+@Override public DataContainer24 copy() {
+DataContainer24 c = new DataContainer24();
+c.b0 = b0;
+c.b1 = b1;
+c.b2 = b2;
+c.b3 = b3;
+c.b4 = b4;
+c.b5 = b5;
+c.b6 = b6;
+c.b7 = b7;
+c.b8 = b8;
+c.b9 = b9;
+c.b10 = b10;
+c.b11 = b11;
+c.b12 = b12;
+c.b13 = b13;
+c.b14 = b14;
+c.b15 = b15;
+c.b16 = b16;
+c.b17 = b17;
+c.b18 = b18;
+c.b19 = b19;
+c.b20 = b20;
+c.b21 = b21;
+c.b22 = b22;
+c.b23 = b23;
+return c;
+}
+@Override public DataContainer24 with(int index, byte data) {
+DataContainer24 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 24) throw new IndexOutOfBoundsException(""+offset);
+b0 = src[offset+0];
+b1 = src[offset+1];
+b2 = src[offset+2];
+b3 = src[offset+3];
+b4 = src[offset+4];
+b5 = src[offset+5];
+b6 = src[offset+6];
+b7 = src[offset+7];
+b8 = src[offset+8];
+b9 = src[offset+9];
+b10 = src[offset+10];
+b11 = src[offset+11];
+b12 = src[offset+12];
+b13 = src[offset+13];
+b14 = src[offset+14];
+b15 = src[offset+15];
+b16 = src[offset+16];
+b17 = src[offset+17];
+b18 = src[offset+18];
+b19 = src[offset+19];
+b20 = src[offset+20];
+b21 = src[offset+21];
+b22 = src[offset+22];
+b23 = src[offset+23];
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 24) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = b0;
+dst[offset+1] = b1;
+dst[offset+2] = b2;
+dst[offset+3] = b3;
+dst[offset+4] = b4;
+dst[offset+5] = b5;
+dst[offset+6] = b6;
+dst[offset+7] = b7;
+dst[offset+8] = b8;
+dst[offset+9] = b9;
+dst[offset+10] = b10;
+dst[offset+11] = b11;
+dst[offset+12] = b12;
+dst[offset+13] = b13;
+dst[offset+14] = b14;
+dst[offset+15] = b15;
+dst[offset+16] = b16;
+dst[offset+17] = b17;
+dst[offset+18] = b18;
+dst[offset+19] = b19;
+dst[offset+20] = b20;
+dst[offset+21] = b21;
+dst[offset+22] = b22;
+dst[offset+23] = b23;
+}
 @Override public boolean equals(Object o) {
+if (o == this) return true;
 if (o == null || getClass() != o.getClass()) return false;
 DataContainer24 n = (DataContainer24)o;
 return b0 == n.b0 && b1 == n.b1 && b2 == n.b2 && b3 == n.b3 && b4 == n.b4 && b5 == n.b5 && b6 == n.b6 && b7 == n.b7 && b8 == n.b8 && b9 == n.b9 && b10 == n.b10 && b11 == n.b11 && b12 == n.b12 && b13 == n.b13 && b14 == n.b14 && b15 == n.b15 && b16 == n.b16 && b17 == n.b17 && b18 == n.b18 && b19 == n.b19 && b20 == n.b20 && b21 == n.b21 && b22 == n.b22 && b23 == n.b23;
@@ -1743,3 +3270,5103 @@ result = 31 * result + b23;
 return result;
 }
 }
+final class DataContainer25 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer25() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 25) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 25) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 25;
+}
+@Override public DataContainer25 copy() {
+DataContainer25 c = new DataContainer25();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer25 with(int index, byte data) {
+DataContainer25 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 25) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL);
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 25) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer25 n = (DataContainer25)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer26 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer26() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 26) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 26) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 26;
+}
+@Override public DataContainer26 copy() {
+DataContainer26 c = new DataContainer26();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer26 with(int index, byte data) {
+DataContainer26 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 26) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 26) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer26 n = (DataContainer26)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer27 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer27() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 27) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 27) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 27;
+}
+@Override public DataContainer27 copy() {
+DataContainer27 c = new DataContainer27();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer27 with(int index, byte data) {
+DataContainer27 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 27) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 27) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer27 n = (DataContainer27)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer28 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer28() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 28) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 28) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 28;
+}
+@Override public DataContainer28 copy() {
+DataContainer28 c = new DataContainer28();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer28 with(int index, byte data) {
+DataContainer28 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 28) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 28) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer28 n = (DataContainer28)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer29 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer29() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 29) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 29) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 29;
+}
+@Override public DataContainer29 copy() {
+DataContainer29 c = new DataContainer29();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer29 with(int index, byte data) {
+DataContainer29 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 29) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 29) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer29 n = (DataContainer29)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer30 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer30() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 30) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 30) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 30;
+}
+@Override public DataContainer30 copy() {
+DataContainer30 c = new DataContainer30();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer30 with(int index, byte data) {
+DataContainer30 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 30) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 30) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer30 n = (DataContainer30)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer31 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer31() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 31) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 31) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 31;
+}
+@Override public DataContainer31 copy() {
+DataContainer31 c = new DataContainer31();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer31 with(int index, byte data) {
+DataContainer31 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 31) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 31) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer31 n = (DataContainer31)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer32 implements DataContainer {
+private long w0, w1, w2, w3;
+DataContainer32() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 32) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 32) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 32;
+}
+@Override public DataContainer32 copy() {
+DataContainer32 c = new DataContainer32();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+return c;
+}
+@Override public DataContainer32 with(int index, byte data) {
+DataContainer32 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 32) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 32) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer32 n = (DataContainer32)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer33 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer33() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 33) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 33) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 33;
+}
+@Override public DataContainer33 copy() {
+DataContainer33 c = new DataContainer33();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer33 with(int index, byte data) {
+DataContainer33 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 33) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL);
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 33) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer33 n = (DataContainer33)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer34 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer34() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 34) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 34) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 34;
+}
+@Override public DataContainer34 copy() {
+DataContainer34 c = new DataContainer34();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer34 with(int index, byte data) {
+DataContainer34 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 34) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 34) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer34 n = (DataContainer34)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer35 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer35() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 35) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 35) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 35;
+}
+@Override public DataContainer35 copy() {
+DataContainer35 c = new DataContainer35();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer35 with(int index, byte data) {
+DataContainer35 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 35) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 35) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer35 n = (DataContainer35)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer36 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer36() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 36) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 36) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 36;
+}
+@Override public DataContainer36 copy() {
+DataContainer36 c = new DataContainer36();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer36 with(int index, byte data) {
+DataContainer36 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 36) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 36) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer36 n = (DataContainer36)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer37 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer37() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 37) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 37) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 37;
+}
+@Override public DataContainer37 copy() {
+DataContainer37 c = new DataContainer37();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer37 with(int index, byte data) {
+DataContainer37 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 37) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 37) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer37 n = (DataContainer37)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer38 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer38() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 38) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 38) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 38;
+}
+@Override public DataContainer38 copy() {
+DataContainer38 c = new DataContainer38();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer38 with(int index, byte data) {
+DataContainer38 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 38) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 38) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer38 n = (DataContainer38)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer39 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer39() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 39) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 39) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 39;
+}
+@Override public DataContainer39 copy() {
+DataContainer39 c = new DataContainer39();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer39 with(int index, byte data) {
+DataContainer39 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 39) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 39) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer39 n = (DataContainer39)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer40 implements DataContainer {
+private long w0, w1, w2, w3, w4;
+DataContainer40() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 40) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 40) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 40;
+}
+@Override public DataContainer40 copy() {
+DataContainer40 c = new DataContainer40();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+return c;
+}
+@Override public DataContainer40 with(int index, byte data) {
+DataContainer40 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 40) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 40) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer40 n = (DataContainer40)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer41 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer41() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 41) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 41) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 41;
+}
+@Override public DataContainer41 copy() {
+DataContainer41 c = new DataContainer41();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer41 with(int index, byte data) {
+DataContainer41 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 41) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL);
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 41) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer41 n = (DataContainer41)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer42 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer42() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 42) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 42) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 42;
+}
+@Override public DataContainer42 copy() {
+DataContainer42 c = new DataContainer42();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer42 with(int index, byte data) {
+DataContainer42 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 42) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 42) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer42 n = (DataContainer42)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer43 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer43() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 43) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 43) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 43;
+}
+@Override public DataContainer43 copy() {
+DataContainer43 c = new DataContainer43();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer43 with(int index, byte data) {
+DataContainer43 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 43) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 43) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer43 n = (DataContainer43)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer44 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer44() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 44) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 44) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 44;
+}
+@Override public DataContainer44 copy() {
+DataContainer44 c = new DataContainer44();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer44 with(int index, byte data) {
+DataContainer44 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 44) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 44) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer44 n = (DataContainer44)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer45 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer45() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 45) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 45) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 45;
+}
+@Override public DataContainer45 copy() {
+DataContainer45 c = new DataContainer45();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer45 with(int index, byte data) {
+DataContainer45 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 45) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 45) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer45 n = (DataContainer45)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer46 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer46() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 46) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 46) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 46;
+}
+@Override public DataContainer46 copy() {
+DataContainer46 c = new DataContainer46();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer46 with(int index, byte data) {
+DataContainer46 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 46) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 46) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer46 n = (DataContainer46)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer47 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer47() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 47) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 47) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 47;
+}
+@Override public DataContainer47 copy() {
+DataContainer47 c = new DataContainer47();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer47 with(int index, byte data) {
+DataContainer47 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 47) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 47) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer47 n = (DataContainer47)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer48 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5;
+DataContainer48() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 48) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 48) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 48;
+}
+@Override public DataContainer48 copy() {
+DataContainer48 c = new DataContainer48();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+return c;
+}
+@Override public DataContainer48 with(int index, byte data) {
+DataContainer48 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 48) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 48) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer48 n = (DataContainer48)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer49 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer49() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 49) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 49) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 49;
+}
+@Override public DataContainer49 copy() {
+DataContainer49 c = new DataContainer49();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer49 with(int index, byte data) {
+DataContainer49 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 49) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL);
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 49) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer49 n = (DataContainer49)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer50 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer50() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 50) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 50) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 50;
+}
+@Override public DataContainer50 copy() {
+DataContainer50 c = new DataContainer50();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer50 with(int index, byte data) {
+DataContainer50 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 50) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 50) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer50 n = (DataContainer50)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer51 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer51() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 51) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 51) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 51;
+}
+@Override public DataContainer51 copy() {
+DataContainer51 c = new DataContainer51();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer51 with(int index, byte data) {
+DataContainer51 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 51) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 51) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer51 n = (DataContainer51)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer52 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer52() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 52) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 52) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 52;
+}
+@Override public DataContainer52 copy() {
+DataContainer52 c = new DataContainer52();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer52 with(int index, byte data) {
+DataContainer52 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 52) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 52) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer52 n = (DataContainer52)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer53 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer53() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 53) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 53) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 53;
+}
+@Override public DataContainer53 copy() {
+DataContainer53 c = new DataContainer53();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer53 with(int index, byte data) {
+DataContainer53 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 53) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 53) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer53 n = (DataContainer53)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer54 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer54() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 54) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 54) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 54;
+}
+@Override public DataContainer54 copy() {
+DataContainer54 c = new DataContainer54();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer54 with(int index, byte data) {
+DataContainer54 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 54) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 54) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer54 n = (DataContainer54)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer55 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer55() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 55) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 55) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 55;
+}
+@Override public DataContainer55 copy() {
+DataContainer55 c = new DataContainer55();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer55 with(int index, byte data) {
+DataContainer55 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 55) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 55) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer55 n = (DataContainer55)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer56 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6;
+DataContainer56() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 56) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 56) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 56;
+}
+@Override public DataContainer56 copy() {
+DataContainer56 c = new DataContainer56();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+return c;
+}
+@Override public DataContainer56 with(int index, byte data) {
+DataContainer56 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 56) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 56) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer56 n = (DataContainer56)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer57 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer57() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 57) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 57) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 57;
+}
+@Override public DataContainer57 copy() {
+DataContainer57 c = new DataContainer57();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer57 with(int index, byte data) {
+DataContainer57 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 57) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL);
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 57) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer57 n = (DataContainer57)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer58 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer58() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 58) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 58) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 58;
+}
+@Override public DataContainer58 copy() {
+DataContainer58 c = new DataContainer58();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer58 with(int index, byte data) {
+DataContainer58 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 58) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 58) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer58 n = (DataContainer58)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer59 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer59() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 59) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 59) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 59;
+}
+@Override public DataContainer59 copy() {
+DataContainer59 c = new DataContainer59();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer59 with(int index, byte data) {
+DataContainer59 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 59) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 59) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer59 n = (DataContainer59)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer60 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer60() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 60) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 60) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 60;
+}
+@Override public DataContainer60 copy() {
+DataContainer60 c = new DataContainer60();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer60 with(int index, byte data) {
+DataContainer60 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 60) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16 | (src[offset+59] & 0xFFL) << 24;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 60) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+dst[offset+59] = (byte)(w7 >>> 24);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer60 n = (DataContainer60)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer61 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer61() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 61) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 61) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 61;
+}
+@Override public DataContainer61 copy() {
+DataContainer61 c = new DataContainer61();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer61 with(int index, byte data) {
+DataContainer61 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 61) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16 | (src[offset+59] & 0xFFL) << 24 | (src[offset+60] & 0xFFL) << 32;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 61) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+dst[offset+59] = (byte)(w7 >>> 24);
+dst[offset+60] = (byte)(w7 >>> 32);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer61 n = (DataContainer61)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer62 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer62() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 62) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 62) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 62;
+}
+@Override public DataContainer62 copy() {
+DataContainer62 c = new DataContainer62();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer62 with(int index, byte data) {
+DataContainer62 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 62) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16 | (src[offset+59] & 0xFFL) << 24 | (src[offset+60] & 0xFFL) << 32 | (src[offset+61] & 0xFFL) << 40;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 62) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+dst[offset+59] = (byte)(w7 >>> 24);
+dst[offset+60] = (byte)(w7 >>> 32);
+dst[offset+61] = (byte)(w7 >>> 40);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer62 n = (DataContainer62)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer63 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer63() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 63) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 63) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 63;
+}
+@Override public DataContainer63 copy() {
+DataContainer63 c = new DataContainer63();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer63 with(int index, byte data) {
+DataContainer63 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 63) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16 | (src[offset+59] & 0xFFL) << 24 | (src[offset+60] & 0xFFL) << 32 | (src[offset+61] & 0xFFL) << 40 | (src[offset+62] & 0xFFL) << 48;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 63) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+dst[offset+59] = (byte)(w7 >>> 24);
+dst[offset+60] = (byte)(w7 >>> 32);
+dst[offset+61] = (byte)(w7 >>> 40);
+dst[offset+62] = (byte)(w7 >>> 48);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer63 n = (DataContainer63)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
+final class DataContainer64 implements DataContainer {
+private long w0, w1, w2, w3, w4, w5, w6, w7;
+DataContainer64() {}
+@Override public byte get(int index) {
+if (index < 0 || index >= 64) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+switch (index >>> 3) {
+case 0: return (byte)(w0 >>> shift);
+case 1: return (byte)(w1 >>> shift);
+case 2: return (byte)(w2 >>> shift);
+case 3: return (byte)(w3 >>> shift);
+case 4: return (byte)(w4 >>> shift);
+case 5: return (byte)(w5 >>> shift);
+case 6: return (byte)(w6 >>> shift);
+case 7: return (byte)(w7 >>> shift);
+default: throw new AssertionError();
+}
+}
+@Override public void set(int index, byte data) {
+if (index < 0 || index >= 64) throw new IndexOutOfBoundsException(""+index);
+int shift = (index & 7) << 3;
+long mask = 0xFFL << shift, bits = (data & 0xFFL) << shift;
+switch (index >>> 3) {
+case 0: w0 = (w0 & ~mask) | bits; break;
+case 1: w1 = (w1 & ~mask) | bits; break;
+case 2: w2 = (w2 & ~mask) | bits; break;
+case 3: w3 = (w3 & ~mask) | bits; break;
+case 4: w4 = (w4 & ~mask) | bits; break;
+case 5: w5 = (w5 & ~mask) | bits; break;
+case 6: w6 = (w6 & ~mask) | bits; break;
+case 7: w7 = (w7 & ~mask) | bits; break;
+default: throw new AssertionError();
+}
+}
+@Override public int size() {
+return 64;
+}
+@Override public DataContainer64 copy() {
+DataContainer64 c = new DataContainer64();
+c.w0 = w0;
+c.w1 = w1;
+c.w2 = w2;
+c.w3 = w3;
+c.w4 = w4;
+c.w5 = w5;
+c.w6 = w6;
+c.w7 = w7;
+return c;
+}
+@Override public DataContainer64 with(int index, byte data) {
+DataContainer64 c = copy();
+c.set(index, data);
+return c;
+}
+@Override public void copyFrom(byte[] src, int offset) {
+if (offset < 0 || offset > src.length - 64) throw new IndexOutOfBoundsException(""+offset);
+w0 = (src[offset+0] & 0xFFL) | (src[offset+1] & 0xFFL) << 8 | (src[offset+2] & 0xFFL) << 16 | (src[offset+3] & 0xFFL) << 24 | (src[offset+4] & 0xFFL) << 32 | (src[offset+5] & 0xFFL) << 40 | (src[offset+6] & 0xFFL) << 48 | (src[offset+7] & 0xFFL) << 56;
+w1 = (src[offset+8] & 0xFFL) | (src[offset+9] & 0xFFL) << 8 | (src[offset+10] & 0xFFL) << 16 | (src[offset+11] & 0xFFL) << 24 | (src[offset+12] & 0xFFL) << 32 | (src[offset+13] & 0xFFL) << 40 | (src[offset+14] & 0xFFL) << 48 | (src[offset+15] & 0xFFL) << 56;
+w2 = (src[offset+16] & 0xFFL) | (src[offset+17] & 0xFFL) << 8 | (src[offset+18] & 0xFFL) << 16 | (src[offset+19] & 0xFFL) << 24 | (src[offset+20] & 0xFFL) << 32 | (src[offset+21] & 0xFFL) << 40 | (src[offset+22] & 0xFFL) << 48 | (src[offset+23] & 0xFFL) << 56;
+w3 = (src[offset+24] & 0xFFL) | (src[offset+25] & 0xFFL) << 8 | (src[offset+26] & 0xFFL) << 16 | (src[offset+27] & 0xFFL) << 24 | (src[offset+28] & 0xFFL) << 32 | (src[offset+29] & 0xFFL) << 40 | (src[offset+30] & 0xFFL) << 48 | (src[offset+31] & 0xFFL) << 56;
+w4 = (src[offset+32] & 0xFFL) | (src[offset+33] & 0xFFL) << 8 | (src[offset+34] & 0xFFL) << 16 | (src[offset+35] & 0xFFL) << 24 | (src[offset+36] & 0xFFL) << 32 | (src[offset+37] & 0xFFL) << 40 | (src[offset+38] & 0xFFL) << 48 | (src[offset+39] & 0xFFL) << 56;
+w5 = (src[offset+40] & 0xFFL) | (src[offset+41] & 0xFFL) << 8 | (src[offset+42] & 0xFFL) << 16 | (src[offset+43] & 0xFFL) << 24 | (src[offset+44] & 0xFFL) << 32 | (src[offset+45] & 0xFFL) << 40 | (src[offset+46] & 0xFFL) << 48 | (src[offset+47] & 0xFFL) << 56;
+w6 = (src[offset+48] & 0xFFL) | (src[offset+49] & 0xFFL) << 8 | (src[offset+50] & 0xFFL) << 16 | (src[offset+51] & 0xFFL) << 24 | (src[offset+52] & 0xFFL) << 32 | (src[offset+53] & 0xFFL) << 40 | (src[offset+54] & 0xFFL) << 48 | (src[offset+55] & 0xFFL) << 56;
+w7 = (src[offset+56] & 0xFFL) | (src[offset+57] & 0xFFL) << 8 | (src[offset+58] & 0xFFL) << 16 | (src[offset+59] & 0xFFL) << 24 | (src[offset+60] & 0xFFL) << 32 | (src[offset+61] & 0xFFL) << 40 | (src[offset+62] & 0xFFL) << 48 | (src[offset+63] & 0xFFL) << 56;
+}
+@Override public void copyInto(byte[] dst, int offset) {
+if (offset < 0 || offset > dst.length - 64) throw new IndexOutOfBoundsException(""+offset);
+dst[offset+0] = (byte)(w0);
+dst[offset+1] = (byte)(w0 >>> 8);
+dst[offset+2] = (byte)(w0 >>> 16);
+dst[offset+3] = (byte)(w0 >>> 24);
+dst[offset+4] = (byte)(w0 >>> 32);
+dst[offset+5] = (byte)(w0 >>> 40);
+dst[offset+6] = (byte)(w0 >>> 48);
+dst[offset+7] = (byte)(w0 >>> 56);
+dst[offset+8] = (byte)(w1);
+dst[offset+9] = (byte)(w1 >>> 8);
+dst[offset+10] = (byte)(w1 >>> 16);
+dst[offset+11] = (byte)(w1 >>> 24);
+dst[offset+12] = (byte)(w1 >>> 32);
+dst[offset+13] = (byte)(w1 >>> 40);
+dst[offset+14] = (byte)(w1 >>> 48);
+dst[offset+15] = (byte)(w1 >>> 56);
+dst[offset+16] = (byte)(w2);
+dst[offset+17] = (byte)(w2 >>> 8);
+dst[offset+18] = (byte)(w2 >>> 16);
+dst[offset+19] = (byte)(w2 >>> 24);
+dst[offset+20] = (byte)(w2 >>> 32);
+dst[offset+21] = (byte)(w2 >>> 40);
+dst[offset+22] = (byte)(w2 >>> 48);
+dst[offset+23] = (byte)(w2 >>> 56);
+dst[offset+24] = (byte)(w3);
+dst[offset+25] = (byte)(w3 >>> 8);
+dst[offset+26] = (byte)(w3 >>> 16);
+dst[offset+27] = (byte)(w3 >>> 24);
+dst[offset+28] = (byte)(w3 >>> 32);
+dst[offset+29] = (byte)(w3 >>> 40);
+dst[offset+30] = (byte)(w3 >>> 48);
+dst[offset+31] = (byte)(w3 >>> 56);
+dst[offset+32] = (byte)(w4);
+dst[offset+33] = (byte)(w4 >>> 8);
+dst[offset+34] = (byte)(w4 >>> 16);
+dst[offset+35] = (byte)(w4 >>> 24);
+dst[offset+36] = (byte)(w4 >>> 32);
+dst[offset+37] = (byte)(w4 >>> 40);
+dst[offset+38] = (byte)(w4 >>> 48);
+dst[offset+39] = (byte)(w4 >>> 56);
+dst[offset+40] = (byte)(w5);
+dst[offset+41] = (byte)(w5 >>> 8);
+dst[offset+42] = (byte)(w5 >>> 16);
+dst[offset+43] = (byte)(w5 >>> 24);
+dst[offset+44] = (byte)(w5 >>> 32);
+dst[offset+45] = (byte)(w5 >>> 40);
+dst[offset+46] = (byte)(w5 >>> 48);
+dst[offset+47] = (byte)(w5 >>> 56);
+dst[offset+48] = (byte)(w6);
+dst[offset+49] = (byte)(w6 >>> 8);
+dst[offset+50] = (byte)(w6 >>> 16);
+dst[offset+51] = (byte)(w6 >>> 24);
+dst[offset+52] = (byte)(w6 >>> 32);
+dst[offset+53] = (byte)(w6 >>> 40);
+dst[offset+54] = (byte)(w6 >>> 48);
+dst[offset+55] = (byte)(w6 >>> 56);
+dst[offset+56] = (byte)(w7);
+dst[offset+57] = (byte)(w7 >>> 8);
+dst[offset+58] = (byte)(w7 >>> 16);
+dst[offset+59] = (byte)(w7 >>> 24);
+dst[offset+60] = (byte)(w7 >>> 32);
+dst[offset+61] = (byte)(w7 >>> 40);
+dst[offset+62] = (byte)(w7 >>> 48);
+dst[offset+63] = (byte)(w7 >>> 56);
+}
+@Override public boolean equals(Object o) {
+if (o == this) return true;
+if (o == null || getClass() != o.getClass()) return false;
+DataContainer64 n = (DataContainer64)o;
+return w0 == n.w0 && w1 == n.w1 && w2 == n.w2 && w3 == n.w3 && w4 == n.w4 && w5 == n.w5 && w6 == n.w6 && w7 == n.w7;
+}
+@Override public int hashCode() {
+long h = size();
+h = (h ^ w0) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w1) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w2) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w3) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w4) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w5) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w6) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+h = (h ^ w7) * 0x9E3779B97F4A7C15L;
+h ^= h >>> 29;
+return (int)(h ^ (h >>> 32));
+}
+}
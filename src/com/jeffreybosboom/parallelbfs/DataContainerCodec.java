@@ -0,0 +1,187 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Encodes and decodes runs of same-size {@link DataContainer}s as packed
+ * fixed-width records with no per-record header, so record {@code i} of a run
+ * starts at byte {@code i * size}.
+ * <p/>
+ * Bulk operations stage records through a scratch array and move them with
+ * bulk {@link ByteBuffer} transfers.  Decoding into existing containers (e.g.,
+ * from a pool or arena) allocates nothing per element.  Instances hold scratch
+ * buffers and are not thread-safe.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class DataContainerCodec {
+	private static final int SCRATCH_BYTES = 1 << 16;
+	private final int size;
+	private final byte[] scratch;
+	private ByteBuffer channelBuffer;
+	public DataContainerCodec(int size) {
+		if (size < 0) throw new IllegalArgumentException("negative size: "+size);
+		this.size = size;
+		this.scratch = new byte[Math.max(size, SCRATCH_BYTES - SCRATCH_BYTES % Math.max(size, 1))];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of bytes occupied by the given number of records.
+	 */
+	public long bytesFor(long records) {
+		return records * size;
+	}
+
+	/**
+	 * Writes one container at the buffer's position.
+	 */
+	public void encode(DataContainer src, ByteBuffer dst) {
+		checkSize(src);
+		src.copyInto(scratch, 0);
+		dst.put(scratch, 0, size);
+	}
+
+	/**
+	 * Writes as many of {@code src[begin, end)} as fit in the buffer and
+	 * returns the number written.
+	 */
+	public int encode(DataContainer[] src, int begin, int end, ByteBuffer dst) {
+		int count = size == 0 ? end - begin : Math.min(end - begin, dst.remaining() / size);
+		int perChunk = scratch.length / Math.max(size, 1);
+		for (int done = 0; done < count; ) {
+			int n = Math.min(perChunk, count - done);
+			int p = 0;
+			for (int c = 0; c < n; ++c) {
+				DataContainer d = src[begin + done + c];
+				checkSize(d);
+				d.copyInto(scratch, p);
+				p += size;
+			}
+			dst.put(scratch, 0, p);
+			done += n;
+		}
+		return count;
+	}
+
+	/**
+	 * Writes as many of the given containers as fit in the buffer and returns
+	 * the number written.
+	 */
+	public int encode(List<? extends DataContainer> src, ByteBuffer dst) {
+		return encode(src.toArray(new DataContainer[0]), 0, src.size(), dst);
+	}
+
+	/**
+	 * Reads one record at the buffer's position into a new container.
+	 */
+	public DataContainer decode(ByteBuffer src) {
+		DataContainer d = DataContainer.create(size);
+		decodeInto(src, d);
+		return d;
+	}
+
+	/**
+	 * Reads one record at the buffer's position into the given container.
+	 */
+	public void decodeInto(ByteBuffer src, DataContainer dst) {
+		checkSize(dst);
+		src.get(scratch, 0, size);
+		dst.copyFrom(scratch, 0);
+	}
+
+	/**
+	 * Reads as many records as are available (up to {@code end - begin}) into
+	 * the existing containers {@code dst[begin, end)} and returns the number
+	 * read.
+	 */
+	public int decodeInto(ByteBuffer src, DataContainer[] dst, int begin, int end) {
+		int count = size == 0 ? end - begin : Math.min(end - begin, src.remaining() / size);
+		int perChunk = scratch.length / Math.max(size, 1);
+		for (int done = 0; done < count; ) {
+			int n = Math.min(perChunk, count - done);
+			src.get(scratch, 0, n * size);
+			int p = 0;
+			for (int c = 0; c < n; ++c) {
+				DataContainer d = dst[begin + done + c];
+				checkSize(d);
+				d.copyFrom(scratch, p);
+				p += size;
+			}
+			done += n;
+		}
+		return count;
+	}
+
+	/**
+	 * Reads as many records as are available (up to {@code end - begin}) into
+	 * {@code dst[begin, end)}, filling each slot with a container from the
+	 * given supplier (e.g., a pool), and returns the number read.
+	 */
+	public int decode(ByteBuffer src, DataContainer[] dst, int begin, int end, Supplier<? extends DataContainer> containers) {
+		int count = size == 0 ? end - begin : Math.min(end - begin, src.remaining() / size);
+		for (int i = begin; i < begin + count; ++i)
+			dst[i] = containers.get();
+		return decodeInto(src, dst, begin, begin + count);
+	}
+
+	/**
+	 * Writes {@code src[begin, end)} to the channel at its current position.
+	 */
+	public void write(FileChannel channel, DataContainer[] src, int begin, int end) throws IOException {
+		ByteBuffer buffer = channelBuffer();
+		while (begin < end) {
+			buffer.clear();
+			begin += encode(src, begin, end, buffer);
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Reads {@code end - begin} records from the channel at its current
+	 * position into the existing containers {@code dst[begin, end)}.
+	 * @throws EOFException if the channel ends first
+	 */
+	public void readInto(FileChannel channel, DataContainer[] dst, int begin, int end) throws IOException {
+		ByteBuffer buffer = channelBuffer();
+		while (begin < end) {
+			buffer.clear();
+			buffer.limit((int)Math.min(buffer.capacity(), bytesFor(end - begin)));
+			while (buffer.hasRemaining())
+				if (channel.read(buffer) < 0)
+					throw new EOFException();
+			buffer.flip();
+			begin += decodeInto(buffer, dst, begin, end);
+		}
+	}
+
+	/**
+	 * Maps the given number of records of the channel, starting at the given
+	 * record index, for decoding in place.
+	 */
+	public MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long firstRecord, int records) throws IOException {
+		return channel.map(mode, bytesFor(firstRecord), bytesFor(records));
+	}
+
+	private ByteBuffer channelBuffer() {
+		if (channelBuffer == null)
+			channelBuffer = ByteBuffer.allocateDirect(scratch.length);
+		return channelBuffer;
+	}
+
+	private void checkSize(DataContainer d) {
+		if (d.size() != size)
+			throw new IllegalArgumentException("expected container of size "+size+", got "+d.size());
+	}
+}
@@ -0,0 +1,92 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lock-free hash-consing table for {@link DataContainer}s.
+ * {@link #intern} returns a canonical instance equal to its argument, so equal
+ * states can share one object and equality checks between interned states
+ * succeed on reference identity.
+ * <p/>
+ * The table is two-way set-associative with a fixed number of slots; when
+ * both slots for a hash are occupied by other states, the newcomer evicts one
+ * of them.  Interning is therefore best-effort: an evicted state's later
+ * equals get a new canonical instance, and threads racing to intern equal
+ * states may each get their own.  Callers must not mutate interned containers.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class DataContainerInterner {
+	private final AtomicReferenceArray<DataContainer> table;
+	private final int mask;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+	/**
+	 * @param capacity the maximum number of states retained, rounded up to a
+	 * power of two
+	 */
+	public DataContainerInterner(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("bad capacity: "+capacity);
+		int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+		this.table = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Returns the canonical instance equal to the given container, which
+	 * becomes the canonical instance if there isn't one in the table.
+	 */
+	public DataContainer intern(DataContainer container) {
+		int h = container.hashCode() * 0x9E3779B9;
+		int first = (h ^ (h >>> 16)) & mask, second = first ^ 1;
+		DataContainer a = table.get(first);
+		if (a != null && a.equals(container)) {
+			hits.increment();
+			return a;
+		}
+		DataContainer b = table.get(second);
+		if (b != null && b.equals(container)) {
+			hits.increment();
+			return b;
+		}
+		misses.increment();
+		//prefer an empty slot; otherwise evict, alternating by hash bit
+		if (a == null ? table.compareAndSet(first, null, container) :
+				b == null ? table.compareAndSet(second, null, container) :
+				table.compareAndSet((h & 0x10000) == 0 ? first : second, (h & 0x10000) == 0 ? a : b, container))
+			return container;
+		//lost a race; someone else may have just interned an equal state
+		DataContainer winner = table.get(first);
+		if (winner != null && winner.equals(container)) return winner;
+		winner = table.get(second);
+		if (winner != null && winner.equals(container)) return winner;
+		return container;
+	}
+
+	/**
+	 * Returns the number of slots (the maximum number of retained states).
+	 */
+	public int capacity() {
+		return table.length();
+	}
+
+	/**
+	 * Returns the number of intern calls that found an existing instance.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of intern calls that did not find an existing
+	 * instance.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	public void clear() {
+		for (int i = 0; i < table.length(); ++i)
+			table.set(i, null);
+	}
+}
@@ -0,0 +1,147 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of exact distances to the nearest goal, shared by searches
+ * of one problem (same successors, goal test and filters) through
+ * {@link ParallelBFS#cacheDistances}.  Solved searches record their start
+ * state's distance and their goal; later searches that reach a cached state
+ * know an upper bound on their own distance and stop as soon as BFS has ruled
+ * out anything shorter, and a search from a cached state returns immediately.
+ * <p/>
+ * When full, entries are evicted by the clock (second-chance) algorithm:
+ * lookups mark an entry referenced, and the clock hand skips (and unmarks)
+ * referenced entries.  Lookups are lock-free and may run concurrently with
+ * each other and with insertions; insertions are serialized.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class DistanceCache<S> {
+	static final class Entry<S> {
+		final int slot;
+		final int distance;
+		final S goal;
+		volatile boolean referenced = false;
+		Entry(int slot, int distance, S goal) {
+			this.slot = slot;
+			this.distance = distance;
+			this.goal = goal;
+		}
+	}
+	private final Map<S, Entry<S>> entries;
+	/**
+	 * The key in each clock slot, or null if the slot is free.
+	 */
+	private final Object[] slots;
+	private int hand = 0;
+	private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+	/**
+	 * @param capacity the maximum number of states retained
+	 */
+	public DistanceCache(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive: "+capacity);
+		this.entries = new ConcurrentHashMap<>(capacity);
+		this.slots = new Object[capacity];
+	}
+
+	/**
+	 * Returns the given state's cached distance to the nearest goal, if any.
+	 */
+	public OptionalInt distance(S state) {
+		Entry<S> e = lookup(state);
+		return e != null ? OptionalInt.of(e.distance) : OptionalInt.empty();
+	}
+
+	/**
+	 * Returns a nearest goal to the given state, if its distance is cached.
+	 */
+	public Optional<S> goal(S state) {
+		Entry<S> e = lookup(state);
+		return e != null ? Optional.of(e.goal) : Optional.empty();
+	}
+
+	Entry<S> lookup(S state) {
+		Entry<S> e = entries.get(state);
+		if (e == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		if (!e.referenced)
+			e.referenced = true;
+		return e;
+	}
+
+	/**
+	 * Records that the given goal is a nearest goal to the given state, at the
+	 * given distance.  The distance must be exact.
+	 */
+	public synchronized void put(S state, int distance, S goal) {
+		if (distance < 0) throw new IllegalArgumentException("negative distance: "+distance);
+		Entry<S> old = entries.get(state);
+		if (old != null) {
+			entries.put(state, new Entry<>(old.slot, distance, goal));
+			return;
+		}
+		int slot = evict();
+		slots[slot] = state;
+		entries.put(state, new Entry<>(slot, distance, goal));
+	}
+
+	/**
+	 * Advances the clock hand to a free or unreferenced slot, evicting its
+	 * entry, and returns it.
+	 */
+	private int evict() {
+		while (true) {
+			int slot = hand;
+			hand = hand + 1 == slots.length ? 0 : hand + 1;
+			@SuppressWarnings("unchecked")
+			S key = (S)slots[slot];
+			if (key == null) return slot;
+			Entry<S> e = entries.get(key);
+			if (e.referenced)
+				e.referenced = false;
+			else {
+				entries.remove(key);
+				slots[slot] = null;
+				return slot;
+			}
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public int capacity() {
+		return slots.length;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached distance.
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that didn't.
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		Arrays.fill(slots, null);
+		hand = 0;
+	}
+}
@@ -0,0 +1,405 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A breadth-first search distributed over several worker processes.  Each
+ * worker owns the states whose hash maps to its rank, expands only the states
+ * it owns, and ships the successors it generates to their owners at the end of
+ * each generation as fixed-width {@link DataContainer} records.  Receiving a
+ * batch from every peer is the global barrier between generations.
+ * <p/>
+ * Filters run on the owning worker, so a filter that maintains a closed set
+ * only ever sees its own partition of the state space.
+ * <p/>
+ * Every worker calls {@link #find(DataContainer)} with the same start state and
+ * every worker returns the same result.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class DistributedBFS implements AutoCloseable {
+	/**
+	 * A search problem instantiable by name in a worker process; see
+	 * {@link #main(String[])}.  Implementations must have a public no-arg
+	 * constructor.
+	 */
+	public interface Problem {
+		public int stateSize();
+		public DataContainer start();
+		public Stream<DataContainer> successors(DataContainer state);
+		public boolean isSolution(DataContainer state);
+		public default boolean filter(DataContainer state) {
+			return true;
+		}
+	}
+
+	private static final int CONNECT_TIMEOUT_MILLIS = 30_000;
+	private final int stateSize;
+	private final Function<DataContainer, Stream<DataContainer>> successors;
+	private final Predicate<DataContainer> isSolution;
+	private final List<Consumer<? super List<DataContainer>>> preGenerationActions = new ArrayList<>();
+	private Predicate<DataContainer> filters = null;
+	private boolean parallel = true;
+	private final int rank;
+	private final Socket[] peers;
+	private final DataInputStream[] inputs;
+	private final DataOutputStream[] outputs;
+	private final ExecutorService senders;
+	/**
+	 * Codecs aren't thread-safe, so each sender gets its own.
+	 */
+	private final DataContainerCodec[] sendCodecs;
+	private final DataContainerCodec receiveCodec;
+
+	/**
+	 * Connects to the other workers.  Worker {@code rank} listens on
+	 * {@code addresses.get(rank)} (on that host's interface only, not the
+	 * wildcard address) and connects to all lower-ranked workers, so workers
+	 * may be started in any order.
+	 * @param stateSize the size of every state
+	 * @param successors the successor function
+	 * @param isSolution the goal test
+	 * @param rank this worker's rank
+	 * @param addresses the addresses of all workers, indexed by rank
+	 * @throws IOException if connecting fails
+	 */
+	public DistributedBFS(int stateSize, Function<DataContainer, Stream<DataContainer>> successors, Predicate<DataContainer> isSolution,
+			int rank, List<InetSocketAddress> addresses) throws IOException {
+		if (stateSize < 0) throw new IllegalArgumentException("negative size: "+stateSize);
+		if (rank < 0 || rank >= addresses.size()) throw new IllegalArgumentException("rank "+rank+" of "+addresses.size());
+		this.stateSize = stateSize;
+		this.successors = successors;
+		this.isSolution = isSolution;
+		this.rank = rank;
+		int n = addresses.size();
+		this.peers = new Socket[n];
+		this.inputs = new DataInputStream[n];
+		this.outputs = new DataOutputStream[n];
+		try (ServerSocket server = new ServerSocket()) {
+			server.setReuseAddress(true);
+			server.bind(addresses.get(rank));
+			for (int i = 0; i < rank; ++i) {
+				peers[i] = connect(addresses.get(i));
+				new DataOutputStream(peers[i].getOutputStream()).writeInt(rank);
+			}
+			for (int i = rank+1; i < n; ++i) {
+				Socket s = server.accept();
+				int peerRank = new DataInputStream(s.getInputStream()).readInt();
+				if (peerRank <= rank || peerRank >= n || peers[peerRank] != null)
+					throw new IOException("unexpected connection from rank "+peerRank);
+				peers[peerRank] = s;
+			}
+		} catch (IOException e) {
+			closePeers();
+			throw e;
+		}
+		for (int i = 0; i < n; ++i) {
+			if (i == rank) continue;
+			peers[i].setTcpNoDelay(true);
+			inputs[i] = new DataInputStream(new BufferedInputStream(peers[i].getInputStream(), 1 << 16));
+			outputs[i] = new DataOutputStream(new BufferedOutputStream(peers[i].getOutputStream(), 1 << 16));
+		}
+		this.sendCodecs = new DataContainerCodec[n];
+		for (int i = 0; i < n; ++i)
+			sendCodecs[i] = new DataContainerCodec(stateSize);
+		this.receiveCodec = new DataContainerCodec(stateSize);
+		this.senders = Executors.newFixedThreadPool(Math.max(1, n-1), r -> {
+			Thread t = new Thread(r, "DistributedBFS-sender");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	private static Socket connect(InetSocketAddress address) throws IOException {
+		long deadline = System.currentTimeMillis() + CONNECT_TIMEOUT_MILLIS;
+		while (true) {
+			try {
+				return new Socket(address.getAddress(), address.getPort());
+			} catch (ConnectException e) {
+				if (System.currentTimeMillis() > deadline) throw e;
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new IOException(ex);
+				}
+			}
+		}
+	}
+
+	public DistributedBFS sequential() {
+		parallel = false;
+		return this;
+	}
+
+	public DistributedBFS filter(Predicate<DataContainer> filter) {
+		this.filters = filters == null ? filter : filters.and(filter);
+		return this;
+	}
+
+	/**
+	 * Registers an action run before each generation with this worker's part
+	 * of the frontier.
+	 */
+	public DistributedBFS beforeGeneration(Consumer<? super List<DataContainer>> action) {
+		preGenerationActions.add(action);
+		return this;
+	}
+
+	public int rank() {
+		return rank;
+	}
+
+	public int workers() {
+		return peers.length;
+	}
+
+	/**
+	 * Returns the rank of the worker owning the given state.
+	 */
+	public int owner(DataContainer state) {
+		int h = state.hashCode() * 0x9E3779B9;
+		return Math.floorMod(h ^ (h >>> 16), peers.length);
+	}
+
+	public Optional<DataContainer> find(DataContainer startState) throws IOException {
+		checkSize(startState);
+		if (isSolution.test(startState)) return Optional.of(startState);
+
+		DataContainer[] frontier = owner(startState) == rank ?
+				new DataContainer[]{startState} : new DataContainer[0];
+		while (true) {
+			final List<DataContainer> finalFrontier = Arrays.asList(frontier);
+			preGenerationActions.forEach(c -> c.accept(finalFrontier));
+
+			Stream<DataContainer> stream = Arrays.stream(frontier);
+			if (parallel) stream = stream.parallel();
+			AtomicReference<DataContainer> solution = new AtomicReference<>();
+			Map<Integer, List<DataContainer>> byOwner = stream.flatMap(successors)
+					.filter(s -> {
+						checkSize(s);
+						if (!isSolution.test(s)) return true;
+						solution.compareAndSet(null, s);
+						return false;
+					})
+					.collect(Collectors.groupingBy(this::owner));
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			List<DataContainer>[] outgoing = new List[peers.length];
+			for (int i = 0; i < outgoing.length; ++i)
+				outgoing[i] = byOwner.getOrDefault(i, new ArrayList<>());
+
+			DataContainer[] solutions = new DataContainer[peers.length];
+			solutions[rank] = solution.get();
+			List<DataContainer> incoming = exchange(outgoing, solutions);
+			for (DataContainer s : solutions)
+				if (s != null)
+					return Optional.of(s);
+
+			Stream<DataContainer> next = incoming.stream();
+			if (parallel) next = next.parallel();
+			if (filters != null) next = next.filter(filters);
+			frontier = next.toArray(DataContainer[]::new);
+			if (allReduce(frontier.length) == 0)
+				return Optional.empty();
+		}
+	}
+
+	/**
+	 * Sends each peer its batch of successors and our solution (if any), then
+	 * receives a batch from each peer.  Returns our own batch plus the received
+	 * batches and fills in the peers' solutions.
+	 */
+	private List<DataContainer> exchange(List<DataContainer>[] outgoing, DataContainer[] solutions) throws IOException {
+		DataContainer solution = solutions[rank];
+		List<Future<?>> sends = new ArrayList<>(peers.length);
+		for (int i = 0; i < peers.length; ++i) {
+			if (i == rank) continue;
+			DataOutputStream out = outputs[i];
+			DataContainerCodec codec = sendCodecs[i];
+			List<DataContainer> batch = outgoing[i];
+			sends.add(senders.submit(() -> {
+				out.writeBoolean(solution != null);
+				if (solution != null)
+					out.write(encode(codec, Arrays.asList(solution)));
+				out.writeInt(batch.size());
+				out.write(encode(codec, batch));
+				out.flush();
+				return null;
+			}));
+		}
+
+		List<DataContainer> incoming = outgoing[rank];
+		for (int i = 0; i < peers.length; ++i) {
+			if (i == rank) continue;
+			DataInputStream in = inputs[i];
+			if (in.readBoolean())
+				solutions[i] = decode(in, 1).get(0);
+			incoming.addAll(decode(in, in.readInt()));
+		}
+		awaitAll(sends);
+		return incoming;
+	}
+
+	/**
+	 * Sums the given value across all workers.
+	 */
+	private long allReduce(long value) throws IOException {
+		List<Future<?>> sends = new ArrayList<>(peers.length);
+		for (int i = 0; i < peers.length; ++i) {
+			if (i == rank) continue;
+			DataOutputStream out = outputs[i];
+			sends.add(senders.submit(() -> {
+				out.writeLong(value);
+				out.flush();
+				return null;
+			}));
+		}
+		long sum = value;
+		for (int i = 0; i < peers.length; ++i)
+			if (i != rank)
+				sum += inputs[i].readLong();
+		awaitAll(sends);
+		return sum;
+	}
+
+	private static void awaitAll(List<Future<?>> futures) throws IOException {
+		for (Future<?> f : futures) {
+			try {
+				f.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof IOException)
+					throw (IOException)e.getCause();
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+	private static byte[] encode(DataContainerCodec codec, List<DataContainer> states) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate(batchBytes(codec, states.size()));
+		codec.encode(states, bytes);
+		return bytes.array();
+	}
+
+	private List<DataContainer> decode(DataInputStream in, int count) throws IOException {
+		byte[] bytes = new byte[batchBytes(receiveCodec, count)];
+		in.readFully(bytes);
+		DataContainer[] states = new DataContainer[count];
+		receiveCodec.decode(ByteBuffer.wrap(bytes), states, 0, count, () -> DataContainer.create(stateSize));
+		return Arrays.asList(states);
+	}
+
+	/**
+	 * Returns the encoded size of a batch of the given number of states,
+	 * checking that it's a valid count and fits in an array.
+	 */
+	private static int batchBytes(DataContainerCodec codec, int count) throws IOException {
+		if (count < 0) throw new IOException("negative batch size: "+count);
+		long bytes = codec.bytesFor(count);
+		if (bytes > Integer.MAX_VALUE - 8) throw new IOException("batch of "+count+" states is too large: "+bytes+" bytes");
+		return (int)bytes;
+	}
+
+	private void checkSize(DataContainer state) {
+		if (state.size() != stateSize)
+			throw new IllegalArgumentException("expected state of size "+stateSize+", got "+state.size());
+	}
+
+	@Override
+	public void close() {
+		senders.shutdownNow();
+		closePeers();
+	}
+
+	private void closePeers() {
+		for (Socket s : peers)
+			if (s != null)
+				try {
+					s.close();
+				} catch (IOException ignored) {}
+	}
+
+	/**
+	 * Runs one worker.  Arguments are the fully-qualified name of a
+	 * {@link Problem} implementation, this worker's rank, and the host:port
+	 * addresses of all workers in rank order.  The result is printed to
+	 * standard output.
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.err.println("usage: DistributedBFS problem-class rank host:port...");
+			System.exit(2);
+		}
+		Problem problem = (Problem)Class.forName(args[0]).getConstructor().newInstance();
+		int rank = Integer.parseInt(args[1]);
+		List<InetSocketAddress> addresses = new ArrayList<>();
+		for (int i = 2; i < args.length; ++i) {
+			int colon = args[i].lastIndexOf(':');
+			addresses.add(new InetSocketAddress(args[i].substring(0, colon), Integer.parseInt(args[i].substring(colon+1))));
+		}
+		try (DistributedBFS bfs = new DistributedBFS(problem.stateSize(), problem::successors, problem::isSolution, rank, addresses)) {
+			bfs.filter(problem::filter);
+			Optional<DataContainer> result = bfs.find(problem.start());
+			System.out.println(result.map(s -> s.stream().map(String::valueOf).collect(Collectors.joining(",", "solution [", "]")))
+					.orElse("no solution"));
+		}
+	}
+
+	/**
+	 * Runs the given problem on {@code workers} worker JVMs on localhost,
+	 * inheriting this JVM's classpath, and returns their exit codes.  Worker
+	 * output is inherited by this process.  See {@link EightPuzzle#main} for an
+	 * example.
+	 */
+	public static int[] runLocal(Class<? extends Problem> problem, int workers) throws IOException, InterruptedException {
+		List<String> addresses = new ArrayList<>(workers);
+		for (int i = 0; i < workers; ++i)
+			try (ServerSocket probe = new ServerSocket(0)) {
+				addresses.add("localhost:"+probe.getLocalPort());
+			}
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		List<Process> processes = new ArrayList<>(workers);
+		try {
+			for (int i = 0; i < workers; ++i) {
+				List<String> command = new ArrayList<>();
+				command.addAll(Arrays.asList(java, "-cp", System.getProperty("java.class.path"),
+						DistributedBFS.class.getName(), problem.getName(), Integer.toString(i)));
+				command.addAll(addresses);
+				processes.add(new ProcessBuilder(command).inheritIO().start());
+			}
+			int[] exitCodes = new int[workers];
+			for (int i = 0; i < workers; ++i)
+				exitCodes[i] = processes.get(i).waitFor();
+			return exitCodes;
+		} finally {
+			processes.forEach(Process::destroy);
+		}
+	}
+}
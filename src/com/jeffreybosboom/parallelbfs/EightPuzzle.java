@@ -0,0 +1,77 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A sample {@link DistributedBFS.Problem}: the 8-puzzle, from one of its two
+ * hardest positions (31 moves from the goal).  Each worker's filter keeps a
+ * closed set of the states it owns, so the 181,440 reachable states are split
+ * among the workers.  Run {@link #main} to search with several worker JVMs on
+ * localhost.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class EightPuzzle implements DistributedBFS.Problem {
+	/**
+	 * The squares the blank can move to from each square.
+	 */
+	private static final int[][] MOVES = {
+		{1, 3}, {0, 2, 4}, {1, 5},
+		{0, 4, 6}, {1, 3, 5, 7}, {2, 4, 8},
+		{3, 7}, {4, 6, 8}, {5, 7},
+	};
+	private static final byte[] START = {8, 6, 7, 2, 5, 4, 3, 0, 1};
+	private final Set<DataContainer> closed = ConcurrentHashMap.newKeySet();
+	public EightPuzzle() {}
+
+	@Override
+	public int stateSize() {
+		return 9;
+	}
+
+	@Override
+	public DataContainer start() {
+		DataContainer start = DataContainer.create(9);
+		start.copyFrom(START);
+		closed.add(start);
+		return start;
+	}
+
+	@Override
+	public Stream<DataContainer> successors(DataContainer state) {
+		int blank = 0;
+		while (state.get(blank) != 0) ++blank;
+		int from = blank;
+		return Arrays.stream(MOVES[blank]).mapToObj(to -> {
+			DataContainer next = state.copy();
+			next.swap(from, to);
+			return next;
+		});
+	}
+
+	@Override
+	public boolean isSolution(DataContainer state) {
+		for (int i = 0; i < 9; ++i)
+			if (state.get(i) != (i + 1) % 9)
+				return false;
+		return true;
+	}
+
+	@Override
+	public boolean filter(DataContainer state) {
+		return closed.add(state);
+	}
+
+	/**
+	 * Solves the puzzle with the given number of worker JVMs (default 3) on
+	 * localhost.
+	 */
+	public static void main(String[] args) throws Exception {
+		int workers = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+		int[] exitCodes = DistributedBFS.runLocal(EightPuzzle.class, workers);
+		System.out.println("worker exit codes: "+Arrays.toString(exitCodes));
+	}
+}
@@ -0,0 +1,108 @@
+package com.jeffreybosboom.parallelbfs;
+
+/**
+ * A hash-compaction visited set storing a 64-bit fingerprint of each
+ * {@link DataContainer}'s contents in an open-addressing {@code long[]} table,
+ * about 8 bytes per slot instead of a full container plus a hash-set node.  Two
+ * distinct states with the same fingerprint are conflated and the second is
+ * omitted from the search; with 64-bit fingerprints that is very unlikely
+ * until the set holds billions of states.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class FingerprintVisitedSet implements VisitedSet<DataContainer> {
+	private static final double MAX_LOAD = 0.75;
+	/**
+	 * 2^64, the number of possible fingerprints.
+	 */
+	private static final double FINGERPRINTS = 0x1p64;
+	private long[] table;
+	private int size = 0;
+	public FingerprintVisitedSet() {
+		this(1 << 10);
+	}
+	/**
+	 * @param expectedStates the number of states to size the table for
+	 */
+	public FingerprintVisitedSet(int expectedStates) {
+		if (expectedStates < 0) throw new IllegalArgumentException("negative size: "+expectedStates);
+		long capacity = Long.highestOneBit(Math.max(16, (long)(expectedStates / MAX_LOAD)) * 2 - 1);
+		if (capacity > 1 << 30) throw new IllegalArgumentException("too large: "+expectedStates);
+		this.table = new long[(int)capacity];
+	}
+
+	@Override
+	public boolean add(DataContainer state) {
+		long f = Hashing.hash64(state, 0x2545F4914F6CDD1DL);
+		//0 marks an empty slot
+		if (f == 0) f = 1;
+		if (!insert(table, f)) return false;
+		if (++size > table.length * MAX_LOAD)
+			grow();
+		return true;
+	}
+
+	/**
+	 * Inserts the fingerprint with linear probing, returning false if it was
+	 * already present.
+	 */
+	private static boolean insert(long[] table, long f) {
+		int mask = table.length - 1;
+		for (int i = (int)Hashing.fmix64(f) & mask; ; i = (i + 1) & mask) {
+			if (table[i] == f) return false;
+			if (table[i] == 0) {
+				table[i] = f;
+				return true;
+			}
+		}
+	}
+
+	private void grow() {
+		if (table.length >= 1 << 30) throw new IllegalStateException("fingerprint table full");
+		long[] bigger = new long[table.length * 2];
+		for (long f : table)
+			if (f != 0)
+				insert(bigger, f);
+		table = bigger;
+	}
+
+	@Override
+	public boolean isExact() {
+		return false;
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public long estimatedBytes() {
+		return table.length * 8L;
+	}
+
+	/**
+	 * Returns the table's length in slots.
+	 */
+	public int capacity() {
+		return table.length;
+	}
+
+	/**
+	 * Returns the probability that a new state's fingerprint matches one
+	 * already in the table, {@code n / 2^64}.
+	 */
+	@Override
+	public double omissionProbability() {
+		return size / FINGERPRINTS;
+	}
+
+	/**
+	 * Returns the birthday-bound probability that any two of the states added
+	 * so far share a fingerprint, {@code 1 - e^(-n(n-1)/2^65)}.
+	 */
+	@Override
+	public double collisionProbability() {
+		return -Math.expm1(-(double)size * (size - 1) / (2 * FINGERPRINTS));
+	}
+}
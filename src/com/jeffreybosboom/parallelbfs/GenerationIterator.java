@@ -0,0 +1,54 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Steps through a {@link ParallelBFS} search one generation at a time.  The
+ * first call to {@link #next()} returns the start frontier; each later call
+ * expands the previous frontier and returns the new one.  No expansion happens
+ * until the caller asks for it, so callers can pause between generations,
+ * inspect or replace the frontier, or stop on their own criteria.
+ * <p/>
+ * The returned frontiers are unmodifiable views, not copies.  Iteration ends
+ * when a solution is found (see {@link #solution()}) or the frontier is empty.
+ * An iterator abandoned before then should be closed, which ends iteration and
+ * releases its resources (e.g., its {@link ParallelBFS#monitorWithJmx JMX
+ * monitor}); exhausted iterators close themselves.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public interface GenerationIterator<S> extends Iterator<List<S>>, AutoCloseable {
+	/**
+	 * Returns the solution, if one has been found.
+	 */
+	public Optional<S> solution();
+
+	/**
+	 * Returns the number of generations expanded so far, which is also the
+	 * depth of the current frontier.
+	 */
+	public int depth();
+
+	/**
+	 * Returns the statistics of the most recently expanded generation, if any.
+	 */
+	public Optional<GenerationStats> lastStats();
+
+	/**
+	 * Replaces the current frontier, which will be expanded by the next call to
+	 * {@link #next()}.  The new states are not checked against or added to the
+	 * search's visited set.
+	 */
+	public void setFrontier(Collection<? extends S> frontier);
+
+	/**
+	 * Ends the iteration, unregistering the search's JMX monitor if it has
+	 * one.  Closing a closed iterator has no effect.
+	 */
+	@Override
+	public void close();
+}
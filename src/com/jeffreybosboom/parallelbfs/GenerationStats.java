@@ -0,0 +1,233 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Optional;
+
+/**
+ * Statistics about one generation of a {@link ParallelBFS} search, delivered
+ * to actions registered with {@link ParallelBFS#afterGeneration}.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class GenerationStats {
+	/**
+	 * How a generation was expanded.
+	 */
+	public enum Mode {
+		/**
+		 * On the calling thread, because the generation was too small to be
+		 * worth splitting or the search is sequential.
+		 */
+		SEQUENTIAL,
+		/**
+		 * On the fork-join common pool.
+		 */
+		PARALLEL,
+		/**
+		 * In chunks on the blocking executor.
+		 */
+		BLOCKING
+	}
+
+	private final int generation;
+	private final int frontierSize;
+	long expanded;
+	long successors;
+	long candidates;
+	int nextFrontierSize;
+	/**
+	 * The number of candidates cut by a beam search's width.
+	 */
+	long beamDiscarded;
+	/**
+	 * Whether a solution or limit stopped this generation before its next
+	 * frontier was built.
+	 */
+	boolean cutShort;
+	long elapsedNanos;
+	int tasks;
+	int workers;
+	double loadImbalance = 1;
+	long visited;
+	double omissionProbability;
+	double collisionProbability;
+	/**
+	 * Callback latencies, or null if they weren't recorded.
+	 */
+	LatencyHistogram successorLatency, filterLatency, goalLatency;
+	Mode mode;
+	GenerationStats(int generation, int frontierSize) {
+		this.generation = generation;
+		this.frontierSize = frontierSize;
+	}
+
+	/**
+	 * Returns this generation's number, starting from 1.
+	 */
+	public int generation() {
+		return generation;
+	}
+
+	/**
+	 * Returns the number of states in this generation's frontier.
+	 */
+	public int frontierSize() {
+		return frontierSize;
+	}
+
+	/**
+	 * Returns the number of states actually expanded, which is less than the
+	 * frontier size if the generation was cut short by a solution or a limit.
+	 */
+	public long expanded() {
+		return expanded;
+	}
+
+	/**
+	 * Returns the number of successors generated, before filtering.
+	 */
+	public long successors() {
+		return successors;
+	}
+
+	/**
+	 * Returns the number of successors that passed the goal test and filters,
+	 * before deduplication.
+	 */
+	public long candidates() {
+		return candidates;
+	}
+
+	/**
+	 * Returns the number of candidates discarded as duplicates, or 0 if the
+	 * generation was cut short.
+	 */
+	public long duplicates() {
+		return cutShort ? 0 : candidates - nextFrontierSize - beamDiscarded;
+	}
+
+	/**
+	 * Returns the number of unique candidates cut from the next frontier by a
+	 * {@linkplain ParallelBFS#beam beam search}'s width.
+	 */
+	public long beamDiscarded() {
+		return beamDiscarded;
+	}
+
+	/**
+	 * Returns the number of candidates per state in the next frontier, so 1.0
+	 * means deduplication (and the beam, if any) discarded nothing and 3.0
+	 * means they shrank the frontier threefold.  Returns 1.0 if the generation was cut short or had
+	 * no candidates, and positive infinity if every candidate was a duplicate.
+	 */
+	public double reductionRatio() {
+		if (cutShort || candidates == 0) return 1;
+		return nextFrontierSize == 0 ? Double.POSITIVE_INFINITY : (double)candidates / nextFrontierSize;
+	}
+
+	/**
+	 * Returns true if a solution or limit stopped this generation before its
+	 * next frontier was built, in which case the next frontier size is 0.
+	 */
+	public boolean cutShort() {
+		return cutShort;
+	}
+
+	/**
+	 * Returns the number of states in the next generation's frontier.
+	 */
+	public int nextFrontierSize() {
+		return nextFrontierSize;
+	}
+
+	public long elapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns the number of tasks the frontier was split into.
+	 */
+	public int tasks() {
+		return tasks;
+	}
+
+	/**
+	 * Returns the number of threads that expanded at least one state, or in
+	 * {@linkplain ParallelBFS#blocking blocking} mode, the number of
+	 * concurrency slots that did (since each chunk may run on its own thread).
+	 */
+	public int workers() {
+		return workers;
+	}
+
+	/**
+	 * Returns the busiest worker's expansion time divided by the mean expansion
+	 * time over all available workers (including idle ones).  1.0 is perfectly
+	 * balanced; larger values mean workers sat idle waiting for the slowest.
+	 */
+	public double loadImbalance() {
+		return loadImbalance;
+	}
+
+	/**
+	 * Returns the number of states in the visited set after this generation,
+	 * or 0 if the search isn't deduplicating.
+	 */
+	public long visited() {
+		return visited;
+	}
+
+	/**
+	 * Returns the estimated probability that the visited set wrongly reports a
+	 * new state as visited, averaged over its shards; 0 for exact sets.
+	 */
+	public double omissionProbability() {
+		return omissionProbability;
+	}
+
+	/**
+	 * Returns the probability that the visited set has wrongly reported at
+	 * least one new state as visited so far; 0 for exact sets.
+	 */
+	public double collisionProbability() {
+		return collisionProbability;
+	}
+
+	/**
+	 * Returns the sampled latencies of the successor function, excluding the
+	 * filters and goal test it pushed successors into, if the search is
+	 * {@linkplain ParallelBFS#recordLatencies recording them}.
+	 */
+	public Optional<LatencyHistogram> successorLatency() {
+		return Optional.ofNullable(successorLatency);
+	}
+
+	/**
+	 * Returns the sampled latencies of the filters, if the search is recording
+	 * them.
+	 */
+	public Optional<LatencyHistogram> filterLatency() {
+		return Optional.ofNullable(filterLatency);
+	}
+
+	/**
+	 * Returns the sampled latencies of the goal test, if the search is
+	 * recording them.
+	 */
+	public Optional<LatencyHistogram> goalLatency() {
+		return Optional.ofNullable(goalLatency);
+	}
+
+	public Mode mode() {
+		return mode;
+	}
+
+	@Override
+	public String toString() {
+		String s = String.format("generation %d, frontier %d, successors %d, next %d, reduction %.2f, visited %d, omission %.3g, collision %.3g, %s, tasks %d, workers %d, imbalance %.2f, %.3f ms",
+				generation, frontierSize, successors, nextFrontierSize, reductionRatio(), visited, omissionProbability, collisionProbability,
+				mode.toString().toLowerCase(), tasks, workers, loadImbalance, elapsedNanos / 1e6);
+		if (successorLatency != null)
+			s += String.format("; successors: %s; filter: %s; goal: %s", successorLatency, filterLatency, goalLatency);
+		return s;
+	}
+}
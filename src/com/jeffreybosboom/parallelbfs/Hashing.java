@@ -0,0 +1,46 @@
+package com.jeffreybosboom.parallelbfs;
+
+/**
+ * 64-bit hashes of {@link DataContainer} contents, for approximate visited
+ * sets that need more and better-distributed bits than {@code hashCode()}.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+final class Hashing {
+	private Hashing() {}
+
+	/**
+	 * Hashes the container's contents with the given seed.  Different seeds
+	 * give effectively independent hashes.
+	 */
+	static long hash64(DataContainer d, long seed) {
+		int n = d.size();
+		long h = seed ^ (n * 0x9E3779B97F4A7C15L);
+		int i = 0;
+		for (; i + 8 <= n; i += 8) {
+			long w = 0;
+			for (int j = 0; j < 8; ++j)
+				w |= (d.get(i+j) & 0xFFL) << (8*j);
+			h = Long.rotateLeft((h ^ w) * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+		}
+		if (i < n) {
+			long w = 0;
+			for (int j = 0; i + j < n; ++j)
+				w |= (d.get(i+j) & 0xFFL) << (8*j);
+			h = Long.rotateLeft((h ^ w) * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+		}
+		return fmix64(h);
+	}
+
+	/**
+	 * MurmurHash3's 64-bit finalizer.
+	 */
+	static long fmix64(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
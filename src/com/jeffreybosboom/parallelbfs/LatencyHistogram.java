@@ -0,0 +1,136 @@
+package com.jeffreybosboom.parallelbfs;
+
+/**
+ * A histogram of sampled callback latencies in nanoseconds, with log-linear
+ * buckets (like HdrHistogram) giving about 6% relative precision over the
+ * whole range of a long.
+ * <p/>
+ * During a search, each thread records into its own histograms without
+ * synchronization, timing one call in every {@code sampleInterval}; at the end
+ * of a generation the per-thread histograms are merged into the
+ * {@link GenerationStats}.  Merged histograms are not modified afterward.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class LatencyHistogram {
+	/**
+	 * Values below 2^SUB_BUCKET_BITS get their own bucket; above that, each
+	 * power of two is split into 2^(SUB_BUCKET_BITS-1) buckets.
+	 */
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS, HALF = SUB_BUCKETS / 2;
+	private static final int BUCKETS = SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * HALF;
+	private final long[] counts = new long[BUCKETS];
+	private final int sampleInterval;
+	/**
+	 * Calls left until the next sampled call.
+	 */
+	private int untilSample;
+	private long calls = 0, samples = 0, max = 0;
+	LatencyHistogram(int sampleInterval) {
+		this.sampleInterval = sampleInterval;
+		this.untilSample = sampleInterval;
+	}
+
+	/**
+	 * Counts a call, returning its start time if it should be timed or
+	 * Long.MIN_VALUE if not.
+	 */
+	long start() {
+		++calls;
+		if (--untilSample != 0) return Long.MIN_VALUE;
+		untilSample = sampleInterval;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the call begun with the given {@link #start} time, if it was
+	 * sampled, less the given nanoseconds spent in nested callbacks.
+	 */
+	void stop(long start, long nestedNanos) {
+		if (start != Long.MIN_VALUE)
+			record(Math.max(0, System.nanoTime() - start - nestedNanos));
+	}
+
+	void record(long nanos) {
+		++counts[indexOf(nanos)];
+		++samples;
+		max = Math.max(max, nanos);
+	}
+
+	void add(LatencyHistogram other) {
+		for (int i = 0; i < BUCKETS; ++i)
+			counts[i] += other.counts[i];
+		calls += other.calls;
+		samples += other.samples;
+		max = Math.max(max, other.max);
+	}
+
+	private static int indexOf(long value) {
+		int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		if (shift <= 0) return (int)value;
+		return SUB_BUCKETS + (shift - 1) * HALF + (int)(value >>> shift) - HALF;
+	}
+
+	/**
+	 * Returns the midpoint of the values in the given bucket.
+	 */
+	private static long valueAt(int index) {
+		if (index < SUB_BUCKETS) return index;
+		int shift = (index - SUB_BUCKETS) / HALF + 1;
+		long low = (long)((index - SUB_BUCKETS) % HALF + HALF) << shift;
+		return low + ((1L << shift) >>> 1);
+	}
+
+	/**
+	 * Returns the number of calls, sampled or not.
+	 */
+	public long calls() {
+		return calls;
+	}
+
+	/**
+	 * Returns the number of sampled calls.
+	 */
+	public long samples() {
+		return samples;
+	}
+
+	/**
+	 * Returns the longest sampled latency, exactly.
+	 */
+	public long max() {
+		return max;
+	}
+
+	/**
+	 * Returns the (approximate) latency at or below which the given fraction
+	 * of samples fall, or 0 if there are no samples.
+	 * @param fraction in [0, 1]
+	 */
+	public long percentile(double fraction) {
+		if (fraction < 0 || fraction > 1) throw new IllegalArgumentException("bad fraction: "+fraction);
+		if (samples == 0) return 0;
+		long rank = Math.max(1, (long)Math.ceil(fraction * samples)), seen = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.min(valueAt(i), max);
+		}
+		return max;
+	}
+
+	public long p50() {
+		return percentile(0.5);
+	}
+
+	public long p99() {
+		return percentile(0.99);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("calls %d, p50 %.1f us, p99 %.1f us, max %.1f us",
+				calls, p50() / 1e3, p99() / 1e3, max / 1e3);
+	}
+}
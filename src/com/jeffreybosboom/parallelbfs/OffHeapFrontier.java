@@ -0,0 +1,455 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A frontier of fixed-width {@link DataContainer}s stored off-heap as packed
+ * records in direct byte buffers, so a huge frontier is a handful of buffers
+ * rather than millions of heap objects for the garbage collector to trace.
+ * <p/>
+ * Workers write through their own {@link Appender}s, each of which claims a
+ * segment of a block at a time and fills it without synchronization.
+ * Segments start small and double with each claim, up to a whole block, so
+ * an appender that writes a few states doesn't tie up a whole block.  Once
+ * every appender is closed, states are read back by index as flyweight
+ * {@link DataContainer} views over the buffer, or copied onto the heap.
+ * {@link #close} returns the blocks to the frontier's {@link BlockPool}, which
+ * keeps a bounded number for the next generation and frees the rest
+ * immediately, so off-heap memory is reused or released deterministically
+ * rather than waiting for the collector.  {@link ParallelBFS#offHeapFrontiers}
+ * keeps a search's frontiers in these.
+ * <p/>
+ * (Direct buffers rather than a foreign-memory arena keep this usable on
+ * runtimes without that API.  Blocks are freed through the runtime's buffer
+ * cleaner where it's accessible, which is the case on Java 8 and on later
+ * runtimes with the jdk.unsupported module; otherwise freed blocks are left
+ * to the collector.)
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class OffHeapFrontier implements AutoCloseable {
+	/**
+	 * A pool of equal-sized direct buffers shared by successive frontiers.
+	 * Blocks returned beyond the retention limit are freed immediately.
+	 * Thread-safe.
+	 */
+	public static final class BlockPool {
+		private final int blockBytes;
+		private final int maxRetained;
+		private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+		/**
+		 * @param blockBytes the size of each block
+		 * @param maxRetained the maximum number of free blocks kept for reuse;
+		 * blocks returned beyond that are freed
+		 */
+		public BlockPool(int blockBytes, int maxRetained) {
+			if (blockBytes <= 0) throw new IllegalArgumentException("block size must be positive: "+blockBytes);
+			if (maxRetained < 0) throw new IllegalArgumentException("negative retention: "+maxRetained);
+			this.blockBytes = blockBytes;
+			this.maxRetained = maxRetained;
+		}
+
+		synchronized ByteBuffer acquire() {
+			ByteBuffer b = free.poll();
+			if (b == null)
+				return ByteBuffer.allocateDirect(blockBytes);
+			b.clear();
+			return b;
+		}
+
+		synchronized void release(ByteBuffer b) {
+			if (free.size() < maxRetained)
+				free.push(b);
+			else
+				Freer.INSTANCE.accept(b);
+		}
+
+		/**
+		 * Frees the blocks held for reuse.
+		 */
+		public synchronized void clear() {
+			for (ByteBuffer b; (b = free.poll()) != null; )
+				Freer.INSTANCE.accept(b);
+		}
+
+		public int blockBytes() {
+			return blockBytes;
+		}
+
+		/**
+		 * Returns the number of free blocks held for reuse.
+		 */
+		public synchronized int retained() {
+			return free.size();
+		}
+	}
+
+	/**
+	 * Lazily holds the pool used by frontiers created without one: 1 MiB
+	 * blocks, retaining up to 16 free blocks between frontiers.
+	 */
+	private static final class DefaultPool {
+		static final BlockPool INSTANCE = new BlockPool(1 << 20, 16);
+	}
+
+	/**
+	 * Lazily holds a function freeing a direct buffer's memory immediately:
+	 * sun.misc.Unsafe.invokeCleaner on Java 9 and later, or the buffer's
+	 * sun.misc.Cleaner on Java 8.  If neither is accessible, the function does
+	 * nothing and the buffer is freed when it's collected.
+	 */
+	private static final class Freer {
+		static final Consumer<ByteBuffer> INSTANCE = create();
+		private static Consumer<ByteBuffer> create() {
+			try {
+				Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				Object unsafe = theUnsafe.get(null);
+				Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				return b -> invoke(invokeCleaner, unsafe, b);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				//not Java 9+, or not accessible
+			}
+			try {
+				Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+				Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+				cleaner.setAccessible(true);
+				return b -> invoke(clean, invoke(cleaner, b));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return b -> {};
+			}
+		}
+		private static Object invoke(Method m, Object receiver, Object... args) {
+			try {
+				return m.invoke(receiver, args);
+			} catch (ReflectiveOperationException e) {
+				throw new AssertionError(e);
+			}
+		}
+	}
+
+	/**
+	 * A run of records in a block, filled by one appender.
+	 */
+	private static final class Segment {
+		/**
+		 * The segment's part of its block.
+		 */
+		final ByteBuffer buffer;
+		final int capacity;
+		int count = 0;
+		Segment(ByteBuffer buffer, int capacity) {
+			this.buffer = buffer;
+			this.capacity = capacity;
+		}
+	}
+
+	/**
+	 * The size of an appender's first segment, in bytes.
+	 */
+	private static final int MIN_SEGMENT_BYTES = 4096;
+	private final int size;
+	private final BlockPool pool;
+	private final int recordsPerBlock;
+	/**
+	 * Blocks acquired from the pool, the segments carved from them in claim
+	 * order, and the number of records of the last block already carved into
+	 * segments, guarded by this.
+	 */
+	private final List<ByteBuffer> blocks = new ArrayList<>();
+	private final List<Segment> segments = new ArrayList<>();
+	private int lastBlockUsed;
+	private final AtomicInteger openAppenders = new AtomicInteger();
+	/**
+	 * After sealing, the index of each segment's first record, with a
+	 * sentinel, and the segments in claim order (published last).  Segments
+	 * are claimed on append, so none is empty.
+	 */
+	private long[] firstIndex;
+	private volatile Segment[] sealed;
+	private volatile boolean closed = false;
+	/**
+	 * Held for reading by {@link #copy} and {@link #readInto}, and for writing
+	 * by {@link #close}, so those reads never touch freed blocks.
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	/**
+	 * Creates a frontier using a shared pool of 1 MiB blocks that retains up
+	 * to 16 free blocks (16 MiB) for later frontiers.
+	 * @param size the containers' size, in bytes
+	 */
+	public OffHeapFrontier(int size) {
+		this(size, DefaultPool.INSTANCE);
+	}
+
+	/**
+	 * @param size the containers' size, in bytes
+	 * @param pool supplies the blocks
+	 */
+	public OffHeapFrontier(int size, BlockPool pool) {
+		if (size <= 0) throw new IllegalArgumentException("size must be positive: "+size);
+		if (pool.blockBytes() < size) throw new IllegalArgumentException("blocks smaller than a record: "+pool.blockBytes());
+		this.size = size;
+		this.pool = pool;
+		this.recordsPerBlock = pool.blockBytes() / size;
+	}
+
+	/**
+	 * Returns a new append cursor, to be used by one thread.
+	 */
+	public Appender appender() {
+		synchronized (this) {
+			if (closed) throw new IllegalStateException("frontier closed");
+			if (sealed != null) throw new IllegalStateException("frontier already sealed");
+			openAppenders.incrementAndGet();
+		}
+		return new Appender();
+	}
+
+	/**
+	 * One thread's append cursor.
+	 */
+	public final class Appender implements AutoCloseable {
+		private final byte[] scratch = new byte[size];
+		private Segment segment;
+		/**
+		 * The number of records to claim next.
+		 */
+		private int claimRecords = Math.max(1, Math.min(recordsPerBlock, MIN_SEGMENT_BYTES / size));
+		private boolean open = true;
+		private Appender() {}
+
+		/**
+		 * Appends a copy of the given state.
+		 * @throws IllegalStateException if this appender or the frontier is
+		 * closed
+		 */
+		public void append(DataContainer state) {
+			if (!open) throw new IllegalStateException("appender closed");
+			//the segment's block may already be back in the pool
+			if (closed) throw new IllegalStateException("frontier closed");
+			if (state.size() != size)
+				throw new IllegalArgumentException("expected container of size "+size+", got "+state.size());
+			if (segment == null || segment.count == segment.capacity) {
+				segment = claim(claimRecords);
+				claimRecords = (int)Math.min(recordsPerBlock, claimRecords * 2L);
+			}
+			state.copyInto(scratch, 0);
+			segment.buffer.put(scratch, 0, size);
+			++segment.count;
+		}
+
+		/**
+		 * Finishes appending.  The frontier can be read once all its appenders
+		 * are closed.
+		 */
+		@Override
+		public void close() {
+			if (!open) return;
+			open = false;
+			segment = null;
+			openAppenders.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Carves a segment of up to the given number of records from the last
+	 * block, acquiring a new block if it's full.
+	 */
+	private synchronized Segment claim(int records) {
+		if (closed) throw new IllegalStateException("frontier closed");
+		if (blocks.isEmpty() || lastBlockUsed == recordsPerBlock) {
+			blocks.add(pool.acquire());
+			lastBlockUsed = 0;
+		}
+		int n = Math.min(records, recordsPerBlock - lastBlockUsed);
+		ByteBuffer b = blocks.get(blocks.size() - 1).duplicate();
+		b.position(lastBlockUsed * size);
+		b.limit((lastBlockUsed + n) * size);
+		lastBlockUsed += n;
+		Segment s = new Segment(b.slice(), n);
+		segments.add(s);
+		return s;
+	}
+
+	/**
+	 * Returns the number of states, sealing the frontier against further
+	 * appends.
+	 */
+	public long size() {
+		Segment[] segments = seal();
+		return firstIndex[segments.length];
+	}
+
+	/**
+	 * Returns a read-only view of the state at the given index.  The view
+	 * reads the off-heap record directly; use {@link DataContainer#copy} (or
+	 * {@link DataContainer#with}) to get an ordinary container, since views
+	 * aren't {@linkplain Object#equals equal} to them.  Views must not be used
+	 * once the frontier is closed, or while it's being closed: they check
+	 * whether it's closed, but don't lock it, so a view racing with a close
+	 * may read freed memory.  Use {@link #copy} to read states on threads that
+	 * don't know when the frontier is closed.
+	 */
+	public DataContainer get(long index) {
+		View v = new View();
+		v.moveTo(index);
+		return v;
+	}
+
+	/**
+	 * Returns a view that can be repositioned with {@link View#moveTo}, to scan
+	 * the frontier without allocating per state.
+	 */
+	public View view() {
+		seal();
+		return new View();
+	}
+
+	/**
+	 * Returns a heap copy of the state at the given index.  Safe to call
+	 * concurrently with {@link #close}, after which it throws
+	 * IllegalStateException.
+	 */
+	public DataContainer copy(long index) {
+		lock.readLock().lock();
+		try {
+			return new View().moveTo(index).copy();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copies the state at the given index into the given container.  Safe to
+	 * call concurrently with {@link #close}, after which it throws
+	 * IllegalStateException.
+	 */
+	public void readInto(long index, DataContainer dst) {
+		if (dst.size() != size)
+			throw new IllegalArgumentException("expected container of size "+size+", got "+dst.size());
+		byte[] bytes = new byte[size];
+		lock.readLock().lock();
+		try {
+			new View().moveTo(index).copyInto(bytes, 0);
+		} finally {
+			lock.readLock().unlock();
+		}
+		dst.copyFrom(bytes, 0);
+	}
+
+	/**
+	 * A flyweight, read-only {@link DataContainer} over one record.
+	 */
+	public final class View implements DataContainer {
+		private ByteBuffer buffer;
+		private int offset;
+		private View() {}
+
+		/**
+		 * Repositions this view at the state with the given index, returning
+		 * this view.
+		 */
+		public View moveTo(long index) {
+			Segment[] segments = seal();
+			if (index < 0 || index >= firstIndex[segments.length])
+				throw new IndexOutOfBoundsException(index+" of "+firstIndex[segments.length]);
+			int s = Arrays.binarySearch(firstIndex, index);
+			if (s < 0) s = -s - 2;
+			this.buffer = segments[s].buffer;
+			this.offset = (int)(index - firstIndex[s]) * size;
+			return this;
+		}
+
+		@Override
+		public byte get(int index) {
+			if (index < 0 || index >= size) throw new IndexOutOfBoundsException(""+index);
+			if (closed) throw new IllegalStateException("frontier closed");
+			return buffer.get(offset + index);
+		}
+
+		@Override
+		public void set(int index, byte b) {
+			throw new UnsupportedOperationException("off-heap frontier views are read-only");
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void copyInto(byte[] dst, int offset) {
+			if (offset < 0 || offset > dst.length - size) throw new IndexOutOfBoundsException(""+offset);
+			if (closed) throw new IllegalStateException("frontier closed");
+			ByteBuffer b = buffer.duplicate();
+			b.position(this.offset);
+			b.get(dst, offset, size);
+		}
+
+		@Override
+		public DataContainer copy() {
+			byte[] bytes = new byte[size];
+			copyInto(bytes, 0);
+			DataContainer c = DataContainer.create(size);
+			c.copyFrom(bytes, 0);
+			return c;
+		}
+	}
+
+	private Segment[] seal() {
+		Segment[] s = sealed;
+		if (s != null && !closed) return s;
+		synchronized (this) {
+			if (closed) throw new IllegalStateException("frontier closed");
+			if (sealed != null) return sealed;
+			if (openAppenders.get() != 0) throw new IllegalStateException(openAppenders.get()+" appenders still open");
+			s = segments.toArray(new Segment[0]);
+			firstIndex = new long[s.length + 1];
+			for (int i = 0; i < s.length; ++i)
+				firstIndex[i + 1] = firstIndex[i] + s[i].count;
+			sealed = s;
+			return s;
+		}
+	}
+
+	/**
+	 * Returns the number of off-heap bytes held by this frontier.
+	 */
+	public synchronized long bytes() {
+		return (long)blocks.size() * pool.blockBytes();
+	}
+
+	/**
+	 * Returns this frontier's blocks, including those claimed by appenders that
+	 * are still open, to its pool, which may free them.  Waits for
+	 * {@link #copy} and {@link #readInto} calls in progress.  Views and
+	 * appenders must not be used afterward; both reject further use, but a
+	 * view or append racing with the close may touch freed memory.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed) return;
+		lock.writeLock().lock();
+		try {
+			closed = true;
+			for (ByteBuffer b : blocks)
+				pool.release(b);
+			blocks.clear();
+			segments.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+}
@@ -1,13 +1,44 @@
 package com.jeffreybosboom.parallelbfs;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.IntFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -17,16 +48,235 @@ import java.util.stream.Stream;
  * @since 11/15/2014
  */
 public final class ParallelBFS<S> {
-	private final Function<S, Stream<S>> successors;
+	/**
+	 * Generates successors of a state by pushing them into a sink.
+	 */
+	@FunctionalInterface
+	public interface SuccessorGenerator<S> {
+		public void generate(S state, Sink<S> sink);
+	}
+
+	/**
+	 * Receives successors from a {@link SuccessorGenerator}.  Successors pushed
+	 * into a sink go straight into the expanding worker's output buffer.
+	 */
+	public interface Sink<S> extends Consumer<S> {
+		/**
+		 * Returns true if the search has found a solution, in which case any
+		 * further successors will be ignored and the generator may return early.
+		 */
+		public boolean isDone();
+	}
+
+	/**
+	 * Generates the successors of a contiguous slice of the frontier at once,
+	 * for domains that can expand many states together (e.g., with the Vector
+	 * API).
+	 */
+	@FunctionalInterface
+	public interface BatchSuccessorGenerator<S> {
+		/**
+		 * Appends the successors of the given states to the batch.
+		 */
+		public void generate(List<S> states, SuccessorBatch<S> out);
+	}
+
+	/**
+	 * A goal test or filter evaluated over a whole batch of successors.
+	 */
+	@FunctionalInterface
+	public interface BatchPredicate<S> {
+		/**
+		 * Sets {@code result[i]} to this predicate's value for
+		 * {@code batch.get(i)}, for each index in the batch.  The result array is
+		 * at least as long as the batch.
+		 */
+		public void test(SuccessorBatch<S> batch, boolean[] result);
+	}
+
+	/**
+	 * Expansion tasks split while their worker has at most this many tasks
+	 * queued beyond what other workers could steal.
+	 */
+	private static final int SURPLUS_TASK_THRESHOLD = 2;
+	/**
+	 * Expansion tasks don't split if the remainder of their range is expected
+	 * to take less than this long to expand.
+	 */
+	private static final long MIN_TASK_NANOS = 20_000;
+	/**
+	 * Generations expected to take less than this long to expand are expanded
+	 * sequentially on the calling thread, avoiding fork-join overhead.
+	 */
+	private static final long MIN_PARALLEL_GENERATION_NANOS = 100_000;
+	/**
+	 * Expansion tasks claim up to this many expansions at a time from a
+	 * search's {@linkplain SearchLimits#withMaxExpansions budget}, so workers
+	 * don't contend on the budget for every state.
+	 */
+	private static final int EXPANSION_CLAIM = 64;
+	/**
+	 * Kept successors are appended to off-heap frontiers in batches of this
+	 * many, so a late goal test sees them before they're appended.
+	 */
+	private static final int OFF_HEAP_BATCH = 256;
+	/**
+	 * The number of maximum-depth states kept by {@link #enumerate}.
+	 */
+	private static final int ANTIPODE_SAMPLE_SIZE = 16;
+	private final SuccessorGenerator<S> successors;
 	private final Predicate<S> isSolution;
+	/**
+	 * The batch successor generator and goal test, or null if we're expanding
+	 * one state at a time.
+	 */
+	private final BatchSuccessorGenerator<S> batchSuccessors;
+	private final BatchPredicate<S> batchIsSolution;
+	private final int batchSize;
+	private final List<BatchPredicate<S>> batchFilters = new ArrayList<>();
 	private final List<Consumer<? super List<S>>> preGenerationActions = new ArrayList<>();
+	private final List<Consumer<? super GenerationStats>> postGenerationActions = new ArrayList<>();
 	private Predicate<S> filters = null;
 	private boolean parallel = true;
+	/**
+	 * The number of visited-set shards, or 0 if we aren't detecting duplicates.
+	 */
+	private int shards = 0;
+	private Supplier<? extends VisitedSet<S>> visitedSetFactory = VisitedSet::exact;
+	/**
+	 * Whether the visited set is discarded after each generation, so only
+	 * duplicates within a generation are detected.
+	 */
+	private boolean withinGenerationOnly = false;
+	/**
+	 * Whether successors are goal-tested after duplicate filtering rather than
+	 * as they're generated.
+	 */
+	private boolean goalTestAfterDeduplication = false;
+	/**
+	 * The number of highest-scoring states kept in each frontier, or 0 to keep
+	 * them all, and their scoring function.
+	 */
+	private int beamWidth = 0;
+	private ToDoubleFunction<? super S> beamScore;
+	/**
+	 * The cache of known distances to the nearest goal, or null.
+	 */
+	private DistanceCache<S> distanceCache = null;
+	/**
+	 * Time one in this many calls to each user callback, or 0 to not time
+	 * callbacks.
+	 */
+	private int latencySampleInterval = 0;
+	/**
+	 * The name under which each search registers a {@link SearchMonitorMBean},
+	 * or null to not register one.
+	 */
+	private String jmxName = null;
+	/**
+	 * The executor used to expand frontier chunks for blocking successor
+	 * functions and filters, or null to use the fork-join common pool.
+	 */
+	private Executor blockingExecutor = null;
+	private int blockingConcurrency;
+	/**
+	 * The size of the DataContainers stored in off-heap frontiers, or 0 to
+	 * keep frontiers on the heap, and the pool supplying their blocks, or null
+	 * for the default pool.
+	 */
+	private int offHeapStateSize = 0;
+	private OffHeapFrontier.BlockPool offHeapPool;
+	/**
+	 * Creates a search using a successor function returning a stream, which is
+	 * closed once its successors are consumed; like {@link Stream#flatMap}, a
+	 * null stream means no successors.
+	 */
 	public ParallelBFS(Function<S, Stream<S>> successors, Predicate<S> isSolution) {
+		this((SuccessorGenerator<S>)(state, sink) -> {
+			try (Stream<S> stream = successors.apply(state)) {
+				if (stream == null) return;
+				Spliterator<S> spliterator = stream.spliterator();
+				while (!sink.isDone() && spliterator.tryAdvance(sink));
+			}
+		}, isSolution);
+	}
+
+	/**
+	 * Creates a search using a push-style successor generator, which avoids
+	 * allocating a stream pipeline per expanded state.
+	 */
+	public ParallelBFS(SuccessorGenerator<S> successors, Predicate<S> isSolution) {
+		this(successors, isSolution, null, null, 0);
+	}
+
+	private ParallelBFS(SuccessorGenerator<S> successors, Predicate<S> isSolution,
+			BatchSuccessorGenerator<S> batchSuccessors, BatchPredicate<S> batchIsSolution, int batchSize) {
 		this.successors = successors;
 		this.isSolution = isSolution;
+		this.batchSuccessors = batchSuccessors;
+		this.batchIsSolution = batchIsSolution;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Creates a search for any of the given goal states, testing successors
+	 * with a hash lookup rather than an arbitrary predicate.
+	 */
+	public static <S> ParallelBFS<S> toGoals(Function<S, Stream<S>> successors, Collection<? extends S> goals) {
+		return new ParallelBFS<>(successors, goalSet(goals));
+	}
+
+	/**
+	 * Creates a search for any of the given goal states using a push-style
+	 * successor generator.
+	 */
+	public static <S> ParallelBFS<S> toGoals(SuccessorGenerator<S> successors, Collection<? extends S> goals) {
+		return new ParallelBFS<>(successors, goalSet(goals));
+	}
+
+	private static <S> Predicate<S> goalSet(Collection<? extends S> goals) {
+		if (goals.isEmpty()) return s -> false;
+		Set<S> set = new HashSet<>(goals);
+		if (set.size() == 1) {
+			S goal = set.iterator().next();
+			return goal::equals;
+		}
+		return set::contains;
+	}
+
+	/**
+	 * Creates a search that expands the frontier in batches.  Each expansion
+	 * task hands the generator up to {@code batchSize} contiguous frontier
+	 * states and a reused output buffer, then runs the goal test and any
+	 * {@link #filterBatch batch filters} over the whole buffer.
+	 * @param successors the batch successor generator
+	 * @param isSolution the batch goal test
+	 * @param batchSize the maximum number of frontier states per batch
+	 */
+	public static <S> ParallelBFS<S> batched(BatchSuccessorGenerator<S> successors, BatchPredicate<S> isSolution, int batchSize) {
+		if (batchSize <= 0) throw new IllegalArgumentException("batch size must be positive: "+batchSize);
+		SuccessorGenerator<S> scalarSuccessors = (state, sink) -> {
+			SuccessorBatch<S> batch = new SuccessorBatch<>(16);
+			successors.generate(Collections.singletonList(state), batch);
+			for (int i = 0; i < batch.size() && !sink.isDone(); ++i)
+				sink.accept(batch.get(i));
+		};
+		Predicate<S> scalarIsSolution = state -> {
+			SuccessorBatch<S> batch = new SuccessorBatch<>(1);
+			batch.add(state);
+			boolean[] result = new boolean[1];
+			isSolution.test(batch, result);
+			return result[0];
+		};
+		return new ParallelBFS<>(scalarSuccessors, scalarIsSolution, successors, isSolution, batchSize);
 	}
 
+	/**
+	 * Expands every generation sequentially on the calling thread.  By
+	 * default, each generation is expanded in parallel unless its expected
+	 * cost (its size times the measured cost per state of the previous
+	 * generation) is too small to be worth splitting.
+	 */
 	public ParallelBFS<S> sequential() {
 		parallel = false;
 		return this;
@@ -37,49 +287,1954 @@ public final class ParallelBFS<S> {
 		return this;
 	}
 
+	/**
+	 * Adds a filter evaluated over each batch of successors, before any
+	 * per-state filters.  Only valid for searches created with
+	 * {@link #batched}.
+	 */
+	public ParallelBFS<S> filterBatch(BatchPredicate<S> filter) {
+		if (batchSuccessors == null) throw new IllegalStateException("not a batched search");
+		batchFilters.add(filter);
+		return this;
+	}
+
+	/**
+	 * Discards successors that have been seen before, using a visited set split
+	 * into one shard per expected worker.
+	 */
+	public ParallelBFS<S> deduplicate() {
+		return deduplicate(ForkJoinPool.getCommonPoolParallelism() * 4);
+	}
+
+	/**
+	 * Discards successors that have been seen before, using a visited set split
+	 * into the given number of shards.  Each generation, workers partition their
+	 * successors into per-shard buckets by hash, then each shard is
+	 * deduplicated by a single worker without synchronization.
+	 * @param shards the number of shards
+	 */
+	public ParallelBFS<S> deduplicate(int shards) {
+		return deduplicate(shards, VisitedSet::exact);
+	}
+
+	/**
+	 * Discards successors that have been seen before, using a visited set split
+	 * into the given number of shards created by the given factory (e.g.,
+	 * approximate sets like {@link BitstateVisitedSet}).
+	 * @param shards the number of shards
+	 * @param shardFactory creates each shard
+	 */
+	public ParallelBFS<S> deduplicate(int shards, Supplier<? extends VisitedSet<S>> shardFactory) {
+		if (shards <= 0) throw new IllegalArgumentException("shards must be positive: "+shards);
+		this.shards = shards;
+		this.visitedSetFactory = shardFactory;
+		this.withinGenerationOnly = false;
+		return this;
+	}
+
+	/**
+	 * Discards successors generated more than once in the same generation
+	 * (e.g., by different parents), using one shard per expected worker, but
+	 * remembers nothing across generations.
+	 */
+	public ParallelBFS<S> deduplicateWithinGeneration() {
+		return deduplicateWithinGeneration(ForkJoinPool.getCommonPoolParallelism() * 4);
+	}
+
+	/**
+	 * Discards successors generated more than once in the same generation,
+	 * using a fresh set split into the given number of shards each generation,
+	 * so every unique successor is expanded once in the next generation.
+	 * Memory is bounded by the largest generation rather than the whole state
+	 * space, but states may be revisited in later generations; for searches
+	 * that only move forward (e.g., when depth is part of the state) that's
+	 * all the deduplication needed.
+	 * @param shards the number of shards
+	 */
+	public ParallelBFS<S> deduplicateWithinGeneration(int shards) {
+		deduplicate(shards, VisitedSet::exact);
+		this.withinGenerationOnly = true;
+		return this;
+	}
+
+	/**
+	 * Goal-tests successors after filtering and duplicate detection instead of
+	 * as they're generated, so an expensive goal predicate runs once per unique
+	 * state rather than once per successor.  Each shard's new states are tested
+	 * by the worker that deduplicated them, or without deduplication, each
+	 * expansion task tests its own successors once it has generated them.  The
+	 * solution is found at the same depth either way, but more of the
+	 * generation is expanded first.
+	 */
+	public ParallelBFS<S> goalTestAfterDeduplication() {
+		this.goalTestAfterDeduplication = true;
+		return this;
+	}
+
+	/**
+	 * Makes this a beam search: each generation's next frontier is cut to the
+	 * {@code width} highest-scoring states that passed the filters and
+	 * deduplication.  The cut is a partial selection made as successors are
+	 * kept, so the next frontier is never built in full: without a visited
+	 * set, each worker offers its successors to its own bounded heap as it
+	 * generates them (holding at most twice the width), and with one, each
+	 * shard's worker offers the shard's new states to a heap as it
+	 * deduplicates them.  The heaps are then merged, so memory for the next
+	 * frontier is bounded by the width times the number of workers or
+	 * shards, regardless of branching factor.  (With a visited set,
+	 * successors wait in their shard's buckets until deduplication, as in any
+	 * deduplicating search.)  NaN scores are treated as negative infinity;
+	 * ties are broken arbitrarily.  States cut from the beam stay in the
+	 * visited set.
+	 * <p/>
+	 * Beam search is incomplete (it may miss solutions BFS would find) and its
+	 * depths overstate distances, so its solutions aren't recorded in a
+	 * {@linkplain #cacheDistances distance cache}.  Without a visited set or a
+	 * filter rejecting visited states, a beam can cycle forever; bound such
+	 * searches with {@link SearchLimits#withMaxDepth}.
+	 * @param width the number of states kept per generation
+	 * @param score the scoring function; higher scores are better
+	 */
+	public ParallelBFS<S> beam(int width, ToDoubleFunction<? super S> score) {
+		if (width <= 0) throw new IllegalArgumentException("beam width must be positive: "+width);
+		this.beamWidth = width;
+		this.beamScore = Objects.requireNonNull(score);
+		return this;
+	}
+
+	/**
+	 * Shares the given cache of distances to the nearest goal with this search.
+	 * Solved searches from a single start state record its distance, unless
+	 * their visited set is approximate (see {@link VisitedSet#isExact}), they
+	 * are {@linkplain #beam beam searches} or their frontier was replaced
+	 * through {@link GenerationIterator#setFrontier},
+	 * since their depth may then overstate it; searches look up each kept
+	 * successor and stop early once BFS has ruled out
+	 * anything shorter than a cached state's distance plus its depth.
+	 * {@link #distances} looks up and records its sources.  The cache must only
+	 * be shared by searches of the same problem.
+	 */
+	public ParallelBFS<S> cacheDistances(DistanceCache<S> cache) {
+		this.distanceCache = cache;
+		return this;
+	}
+
+	/**
+	 * Records sampled latencies of the successor function, filters and goal
+	 * test, timing one call in 64.  See {@link #recordLatencies(int)}.
+	 */
+	public ParallelBFS<S> recordLatencies() {
+		return recordLatencies(64);
+	}
+
+	/**
+	 * Records sampled latencies of the successor function, filters and goal
+	 * test in each generation's {@link GenerationStats}.  Each worker thread
+	 * times one call in every {@code sampleInterval} into its own histograms,
+	 * which are merged when the generation ends.  The successor function's
+	 * time excludes the filters and goal test it pushes successors into.
+	 * Batched searches time each batch call.
+	 * @param sampleInterval time one call in this many; 1 times every call
+	 */
+	public ParallelBFS<S> recordLatencies(int sampleInterval) {
+		if (sampleInterval <= 0) throw new IllegalArgumentException("sample interval must be positive: "+sampleInterval);
+		this.latencySampleInterval = sampleInterval;
+		return this;
+	}
+
+	/**
+	 * Registers a {@link SearchMonitorMBean} with the platform MBean server for
+	 * each search while it runs, under
+	 * {@code com.jeffreybosboom.parallelbfs:type=Search,name="<name>",id=<n>},
+	 * publishing its progress and accepting pause, resume and cancel requests.
+	 * Workers honor requests before their next state (or batch).  When paused,
+	 * workers on the fork-join pool don't wait: they leave the rest of their
+	 * ranges unexpanded and return, and the thread that started the search
+	 * waits for the resume (in {@link ForkJoinPool#managedBlock}, in case it's
+	 * a pool thread) and then expands what they left, so a paused search
+	 * holds no pool threads.  In {@linkplain #blocking blocking} mode the
+	 * chunks wait on their own threads instead.  Time spent paused doesn't
+	 * count against a {@linkplain SearchLimits#withTimeout timeout}.  Iterators from {@link #generations} unregister when exhausted
+	 * or closed.  {@link #distances} registers a monitor too.
+	 */
+	public ParallelBFS<S> monitorWithJmx(String name) {
+		this.jmxName = name;
+		return this;
+	}
+
+	/**
+	 * Expands the frontier in chunks on virtual threads (or, on runtimes
+	 * without them, a cached pool of daemon threads) rather than the fork-join
+	 * common pool, for successor functions and filters that block on I/O.
+	 * @param concurrency the maximum number of chunks being expanded at once,
+	 * which also bounds the number of chunks submitted but not yet finished
+	 */
+	public ParallelBFS<S> blocking(int concurrency) {
+		return blocking(DefaultBlockingExecutor.INSTANCE, concurrency);
+	}
+
+	/**
+	 * Expands the frontier in chunks on the given executor rather than the
+	 * fork-join common pool, for successor functions and filters that block on
+	 * I/O.
+	 * @param executor the executor, typically one creating a virtual thread per
+	 * task
+	 * @param concurrency the maximum number of chunks being expanded at once,
+	 * which also bounds the number of chunks submitted but not yet finished
+	 */
+	public ParallelBFS<S> blocking(Executor executor, int concurrency) {
+		if (concurrency <= 0) throw new IllegalArgumentException("concurrency must be positive: "+concurrency);
+		this.blockingExecutor = executor;
+		this.blockingConcurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Keeps frontiers off-heap in {@link OffHeapFrontier}s, using the shared
+	 * default block pool.  See {@link #offHeapFrontiers(int, OffHeapFrontier.BlockPool)}.
+	 * @param stateSize the states' size, in bytes
+	 */
+	public ParallelBFS<S> offHeapFrontiers(int stateSize) {
+		if (stateSize <= 0) throw new IllegalArgumentException("size must be positive: "+stateSize);
+		this.offHeapStateSize = stateSize;
+		this.offHeapPool = null;
+		return this;
+	}
+
+	/**
+	 * Keeps frontiers off-heap in {@link OffHeapFrontier}s drawing blocks from
+	 * the given pool, so a large frontier is a handful of direct buffers
+	 * rather than millions of heap objects for the garbage collector to trace.
+	 * Only valid for searches of {@link DataContainer}s of the given size.
+	 * <p/>
+	 * Workers read the states they expand from the frontier as short-lived
+	 * heap copies, and append the successors they keep to the next frontier
+	 * in small batches.  With a visited set, successors wait in their shard's
+	 * buckets on the heap until they're deduplicated, then each shard's new
+	 * states are appended.  Each frontier's blocks go back to the pool as soon
+	 * as the next generation has been expanded, or when the search ends.
+	 * <p/>
+	 * Frontier lists passed to {@link #beforeGeneration} hooks and returned by
+	 * {@link #generations} iterators are unmodifiable and copy each state onto
+	 * the heap when it's read.  They can only be read until their generation
+	 * has been expanded (for hooks) or the iterator advances or is closed;
+	 * after that, reads throw IllegalStateException.  {@link #distances}
+	 * ignores this setting.
+	 * @param stateSize the states' size, in bytes
+	 * @param pool supplies the frontiers' blocks
+	 */
+	public ParallelBFS<S> offHeapFrontiers(int stateSize, OffHeapFrontier.BlockPool pool) {
+		if (stateSize <= 0) throw new IllegalArgumentException("size must be positive: "+stateSize);
+		if (pool.blockBytes() < stateSize) throw new IllegalArgumentException("blocks smaller than a state: "+pool.blockBytes());
+		this.offHeapStateSize = stateSize;
+		this.offHeapPool = pool;
+		return this;
+	}
+
 	public ParallelBFS<S> beforeGeneration(Consumer<? super List<S>> action) {
 		preGenerationActions.add(action);
 		return this;
 	}
 
+	/**
+	 * Registers an action run with an unmodifiable view of each generation's
+	 * frontier on another thread while the generation is expanded.  If the
+	 * action is still busy when later generations start, only the latest
+	 * waiting frontier is kept, so at most two old frontiers are retained on
+	 * the action's behalf; wrap the action in an {@link AsyncObserver} directly
+	 * to choose the executor and queue length or count drops.  With
+	 * {@link #offHeapFrontiers}, a frontier read after its generation has been
+	 * expanded throws IllegalStateException, so copy what you need.  Synchronous
+	 * hooks that modify the frontier should be registered first.
+	 */
+	public ParallelBFS<S> beforeGenerationAsync(Consumer<? super List<S>> action) {
+		AsyncObserver<List<S>> observer = new AsyncObserver<>(action);
+		return beforeGeneration(frontier -> observer.accept(Collections.unmodifiableList(frontier)));
+	}
+
+	/**
+	 * Registers an action run after each generation with that generation's
+	 * statistics.
+	 */
+	public ParallelBFS<S> afterGeneration(Consumer<? super GenerationStats> action) {
+		postGenerationActions.add(action);
+		return this;
+	}
+
+	/**
+	 * Registers an action run with each generation's statistics on another
+	 * thread, skipping to the latest statistics if it falls behind.
+	 * @see #beforeGenerationAsync
+	 */
+	public ParallelBFS<S> afterGenerationAsync(Consumer<? super GenerationStats> action) {
+		return afterGeneration(new AsyncObserver<>(action));
+	}
+
 	public Optional<S> find(S startState) {
-		if (isSolution.test(startState)) return Optional.of(startState);
+		return findFromAny(Collections.singletonList(startState));
+	}
 
-		@SuppressWarnings("unchecked")
-		S[] frontier = (S[])new Object[]{startState};
-		@SuppressWarnings("unchecked")
-		IntFunction<S[]> arrayNew = l -> (S[])new Object[l];
+	/**
+	 * Searches from all the given states at once, returning a solution nearest
+	 * to any of them.
+	 */
+	public Optional<S> findFromAny(Collection<? extends S> startStates) {
+		Search search = new Search(startStates, true, SearchLimits.none(), null);
+		search.run();
+		return search.solution();
+	}
 
-		while (frontier.length > 0) {
-			final List<S> finalFrontier = Arrays.asList(frontier);
+	/**
+	 * Searches from all the given states at once within the given limits.
+	 */
+	public SearchResult<S> findFromAny(Collection<? extends S> startStates, SearchLimits limits) {
+		Search search = new Search(startStates, true, limits, null);
+		search.run();
+		return search.result();
+	}
+
+	/**
+	 * Searches from the given state within the given limits.  When a limit is
+	 * reached, all workers stop at their next state.
+	 */
+	public SearchResult<S> find(S startState, SearchLimits limits) {
+		return find(startState, limits, null);
+	}
+
+	/**
+	 * Searches from the given state within the given limits, tracking the
+	 * highest-scoring state generated so callers have a best-so-far answer if
+	 * the search stops before finding a solution.  When a limit is reached, all
+	 * workers stop at their next state.
+	 * @param score the scoring function, higher is better, or null
+	 */
+	public SearchResult<S> find(S startState, SearchLimits limits, ToDoubleFunction<? super S> score) {
+		Search search = new Search(Collections.singletonList(startState), true, limits, score);
+		search.run();
+		return search.result();
+	}
+
+	/**
+	 * Answers a batch of "distance from this state to the nearest goal"
+	 * queries in one traversal.  See {@link #distances(List, int)}.
+	 */
+	public int[] distances(List<? extends S> sources) {
+		return distances(sources, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Answers a batch of "distance from this state to the nearest goal"
+	 * queries in one traversal, returning the distance for each source (in
+	 * order), or -1 if no goal is reachable within the given depth.  Each state
+	 * is tagged with a bitmap of the sources that have reached it, so a state
+	 * reached by several sources is expanded once per generation for all of
+	 * them and is re-expanded only when a new source reaches it.  Sources stop
+	 * propagating once they're answered, and the search stops when every source
+	 * is answered.
+	 * <p/>
+	 * This always detects duplicates exactly, sharded as configured by
+	 * {@link #deduplicate(int)} (or one shard per expected worker), and keeps a
+	 * bitmap of {@code ceil(sources / 64)} longs per reached state.  Filters,
+	 * {@link #sequential}, {@link #cacheDistances} and {@link #monitorWithJmx}
+	 * apply (cancelling leaves unanswered sources at -1).  Batched searches
+	 * expand one state at a time, running their {@linkplain #filterBatch batch
+	 * filters} over each state's successors.  The rest of this search's
+	 * configuration does not apply:
+	 * <ul>
+	 * <li>{@link #beforeGeneration} and {@link #afterGeneration} hooks (and
+	 * their asynchronous forms) aren't run, as there is no frontier list or
+	 * {@link GenerationStats} to pass them;
+	 * <li>the shard factory given to {@link #deduplicate(int, Supplier)} and
+	 * {@link #deduplicateWithinGeneration} are ignored;
+	 * <li>states are goal-tested once each, as with
+	 * {@link #goalTestAfterDeduplication};
+	 * <li>latencies aren't {@linkplain #recordLatencies recorded};
+	 * <li>chunks are expanded on the fork-join pool even if the search is
+	 * {@link #blocking};
+	 * <li>there are no {@link SearchLimits}; maxDepth is the only limit;
+	 * <li>there is no {@linkplain #beam beam}; every reached state is expanded;
+	 * <li>frontiers are kept on the heap even with {@link #offHeapFrontiers}.
+	 * </ul>
+	 * @param sources the query states
+	 * @param maxDepth the maximum distance to search
+	 */
+	public int[] distances(List<? extends S> sources, int maxDepth) {
+		if (maxDepth < 0) throw new IllegalArgumentException("negative depth: "+maxDepth);
+		return new MultiSourceSearch(sources, maxDepth).run();
+	}
+
+	/**
+	 * Enumerates the state space reachable from the given state, counting the
+	 * states at each depth.  No goal testing is performed.  The state space must
+	 * be finite after filtering; use {@link #deduplicate()} or a filter that
+	 * rejects visited states.
+	 */
+	public StateSpaceCensus<S> enumerate(S startState) {
+		Search search = new Search(Collections.singletonList(startState), false, SearchLimits.none(), null);
+		List<Long> counts = new ArrayList<>();
+		counts.add(1L);
+		//sample antipodes from the last nonempty frontier, which may be freed
+		//by the next step
+		List<S> deepest = antipodeSample(search.frontier);
+		try {
+			while (search.canStep()) {
+				search.step();
+				if (search.frontier.isEmpty()) break;
+				counts.add((long)search.frontier.size());
+				deepest = antipodeSample(search.frontier);
+			}
+		} finally {
+			search.close();
+		}
+		return new StateSpaceCensus<>(counts.stream().mapToLong(Long::longValue).toArray(), deepest);
+	}
+
+	private List<S> antipodeSample(List<S> frontier) {
+		return new ArrayList<>(frontier.subList(0, Math.min(frontier.size(), ANTIPODE_SAMPLE_SIZE)));
+	}
+
+	/**
+	 * Returns an iterator that expands one generation of the search from the
+	 * given state each time it is advanced.  Close the iterator if it might be
+	 * abandoned before it's exhausted, so it unregisters its
+	 * {@linkplain #monitorWithJmx JMX monitor}.
+	 */
+	public GenerationIterator<S> generations(S startState) {
+		return new Search(Collections.singletonList(startState), true, SearchLimits.none(), null);
+	}
+
+	/**
+	 * The state of one search between generations.
+	 */
+	private final class Search implements GenerationIterator<S> {
+		private VisitedSet<S>[] visited;
+		private final boolean goalTest;
+		private final SearchLimits limits;
+		/**
+		 * The System.nanoTime() after which we stop, or Long.MAX_VALUE.
+		 */
+		private final long deadline;
+		/**
+		 * The scoring function for the best-so-far state, or null.
+		 */
+		private final ToDoubleFunction<? super S> score;
+		/**
+		 * The frontier, and the off-heap frontier holding it if we're keeping
+		 * frontiers off-heap.
+		 */
+		private List<S> frontier;
+		private OffHeapFrontier offHeapFrontier;
+		private S solution;
+		private S best;
+		private double bestScore = Double.NEGATIVE_INFINITY;
+		/**
+		 * The least known solution depth through a cached state, and that
+		 * state's goal.
+		 */
+		private int bound = Integer.MAX_VALUE;
+		private S boundGoal;
+		private int depth = 0;
+		private long expanded = 0;
+		/**
+		 * Whether a limit stopped the search.
+		 */
+		private boolean limited = false;
+		/**
+		 * This search's JMX monitor, or null.
+		 */
+		private SearchMonitor monitor;
+		private boolean cancelled = false;
+		//until we've measured, assume every state is worth splitting off
+		private long nanosPerState = MIN_TASK_NANOS;
+		private GenerationStats lastStats;
+		/**
+		 * Each worker's successor buckets, reused (with their capacity) from
+		 * generation to generation.  Only the worker itself adds or clears its
+		 * entry while a generation is expanded.
+		 */
+		private final Map<Object, Buckets> buckets = new ConcurrentHashMap<>();
+		/**
+		 * Whether the start frontier has been returned from next().
+		 */
+		private boolean started = false;
+		private boolean closed = false;
+		/**
+		 * The start state, if there was only one and its distance hasn't been
+		 * cached yet.
+		 */
+		private S start;
+		Search(Collection<? extends S> startStates, boolean goalTest, SearchLimits limits, ToDoubleFunction<? super S> score) {
+			long now = System.nanoTime();
+			this.goalTest = goalTest;
+			this.limits = limits;
+			this.deadline = limits.timeoutNanos() == Long.MAX_VALUE ? Long.MAX_VALUE :
+					now + Math.min(limits.timeoutNanos(), Long.MAX_VALUE - now);
+			this.score = score;
+			this.visited = newVisitedSet();
+			List<S> starts = new ArrayList<>(startStates.size());
+			for (S s : startStates)
+				if (visited == null || visited[shardOf(s)].add(s))
+					starts.add(s);
+			setFrontierStates(starts);
+			this.start = goalTest && starts.size() == 1 ? starts.get(0) : null;
+			int cachedStarts = 0;
+			for (S s : starts) {
+				if (goalTest && solution == null && isSolution.test(s))
+					solution = s;
+				offerBest(s, score != null ? score.applyAsDouble(s) : 0);
+				DistanceCache.Entry<S> cached = goalTest && distanceCache != null ? distanceCache.lookup(s) : null;
+				if (cached != null) {
+					offerBound(0, cached);
+					++cachedStarts;
+				}
+			}
+			//if every start's distance is known, the least is exact
+			if (solution == null && cachedStarts > 0 && cachedStarts == starts.size()) {
+				solution = boundGoal;
+				depth = bound;
+			}
+			settle();
+			if (jmxName != null) {
+				monitor = SearchMonitor.register(jmxName);
+				updateMonitor();
+			}
+		}
+
+		void run() {
+			try {
+				while (canStep())
+					step();
+			} finally {
+				close();
+			}
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			if (monitor != null)
+				monitor.unregister();
+			monitor = null;
+			if (offHeapFrontier != null)
+				offHeapFrontier.close();
+		}
+
+		/**
+		 * Makes a copy of the given states the frontier.
+		 */
+		private void setFrontierStates(Collection<? extends S> states) {
+			if (offHeapStateSize == 0) {
+				installFrontier(Arrays.asList(states.toArray(newArray(states.size()))));
+				return;
+			}
+			OffHeapFrontier f = newOffHeapFrontier();
+			try {
+				appendAll(f, states);
+			} catch (RuntimeException | Error e) {
+				f.close();
+				throw e;
+			}
+			installFrontier(new OffHeapList(f));
+		}
+
+		/**
+		 * Makes the given list the frontier, freeing the old frontier if it was
+		 * off-heap.
+		 */
+		private void installFrontier(List<S> next) {
+			OffHeapFrontier old = offHeapFrontier;
+			frontier = next;
+			offHeapFrontier = next instanceof ParallelBFS.OffHeapList ? ((OffHeapList)next).states : null;
+			if (old != null)
+				old.close();
+		}
+
+		boolean canStep() {
+			if (closed || solution != null || frontier.isEmpty() || limited || cancelled) return false;
+			if (monitor != null && !monitor.proceed()) {
+				cancelled = true;
+				return false;
+			}
+			if (depth >= limits.maxDepth() || expanded >= limits.maxExpansions() || pastDeadline()) {
+				limited = true;
+				return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Expands the current frontier.
+		 */
+		void step() {
+			final List<S> finalFrontier = frontier;
 			preGenerationActions.forEach(c -> c.accept(finalFrontier));
 
+			if (withinGenerationOnly)
+				visited = newVisitedSet();
+			Generation g = new Generation(this);
+			++depth;
+			updateMonitor();
+			List<S> next = g.run();
+			nanosPerState = g.nanosPerState();
+			lastStats = g.stats;
+			expanded += g.stats.expanded;
+			postGenerationActions.forEach(c -> c.accept(g.stats));
+			solution = g.solution.get();
+			cancelled = monitor != null && monitor.isCancelled();
+			limited = g.stopped && !cancelled;
+			for (Generation.Output o : g.outputs) {
+				offerBest(o.best, o.bestScore);
+				offerBound(depth, o.cached);
+			}
+			installFrontier(next != null ? next : Collections.emptyList());
+			settle();
+			updateMonitor();
+		}
+
+		/**
+		 * Returns true if the timeout has elapsed, not counting time spent
+		 * paused.
+		 */
+		boolean pastDeadline() {
+			if (deadline == Long.MAX_VALUE) return false;
+			long paused = monitor != null ? monitor.pausedNanos() : 0;
+			return System.nanoTime() - paused - deadline > 0;
+		}
+
+		private void updateMonitor() {
+			if (monitor == null) return;
+			long visitedSize = 0, bytes = offHeapFrontier != null ? offHeapFrontier.bytes() : frontier.size() * 8L;
+			if (visited != null)
+				for (VisitedSet<S> v : visited) {
+					visitedSize += v.size();
+					bytes += v.estimatedBytes();
+				}
+			monitor.update(depth, frontier.size(), visitedSize, expanded, bytes);
+		}
+
+		private void offerBound(int stateDepth, DistanceCache.Entry<S> cached) {
+			if (cached != null && stateDepth + cached.distance < bound) {
+				bound = stateDepth + cached.distance;
+				boundGoal = cached.goal;
+			}
+		}
+
+		/**
+		 * Completes the search from the cache if BFS has ruled out solutions
+		 * shallower than the bound, and records a solution from a single start
+		 * state in the cache.
+		 */
+		private void settle() {
+			if (solution == null && !limited && !cancelled && bound <= depth + 1) {
+				solution = boundGoal;
+				depth = bound;
+			}
+			//approximate visited sets may have omitted a shallower solution
+			if (solution != null && distanceCache != null && start != null && !limited && !cancelled && exact()) {
+				distanceCache.put(start, depth, solution);
+				distanceCache.put(solution, 0, solution);
+				start = null;
+			}
+		}
+
+		/**
+		 * Returns true if this isn't a beam search and the visited set (if any)
+		 * never omits states, so BFS depths are exact distances.
+		 */
+		private boolean exact() {
+			if (beamWidth != 0) return false;
+			if (visited != null)
+				for (VisitedSet<S> v : visited)
+					if (!v.isExact()) return false;
+			return true;
+		}
+
+		private void offerBest(S state, double stateScore) {
+			if (score != null && state != null && (best == null || stateScore > bestScore)) {
+				best = state;
+				bestScore = stateScore;
+			}
+		}
+
+		SearchResult<S> result() {
+			SearchResult.Outcome outcome = solution != null ? SearchResult.Outcome.SOLVED :
+					cancelled ? SearchResult.Outcome.CANCELLED :
+					limited ? SearchResult.Outcome.BUDGET_EXCEEDED : SearchResult.Outcome.EXHAUSTED;
+			return new SearchResult<>(outcome, solution, depth, expanded, best);
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (closed) return false;
+			if (!started || canStep()) return true;
+			close();
+			return false;
+		}
+
+		@Override
+		public List<S> next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			if (started)
+				step();
+			started = true;
+			return Collections.unmodifiableList(frontier);
+		}
+
+		@Override
+		public Optional<S> solution() {
+			return Optional.ofNullable(solution);
+		}
+
+		@Override
+		public int depth() {
+			return depth;
+		}
+
+		@Override
+		public Optional<GenerationStats> lastStats() {
+			return Optional.ofNullable(lastStats);
+		}
+
+		@Override
+		public void setFrontier(Collection<? extends S> frontier) {
+			setFrontierStates(frontier);
+			//depths no longer measure distance from the start
+			this.start = null;
+		}
+	}
+
+	/**
+	 * A bit-parallel multi-source search for {@link #distances}.  Frontier
+	 * entries carry the bitmap of sources that newly reached their state in
+	 * the previous generation.  Each expanding thread buckets successors by
+	 * shard with their parent's bitmap in its own {@link Chunk}, reused across
+	 * generations, then each shard's worker ORs the bitmaps into its seen map,
+	 * keeping only the bits that are new.
+	 */
+	private final class MultiSourceSearch {
+		private final List<? extends S> sources;
+		private final int maxDepth;
+		private final int words;
+		private final int[] distances;
+		/**
+		 * The sources that have been answered, which are masked out of the
+		 * frontier.
+		 */
+		private final long[] answered;
+		private int unanswered;
+		private final int shardCount;
+		/**
+		 * For each shard, the sources that have reached each state.
+		 */
+		private final List<Map<S, long[]>> seen = new ArrayList<>();
+		/**
+		 * For each shard, the seen states that are goals, so each state is
+		 * goal-tested only once.
+		 */
+		private final List<Set<S>> goals = new ArrayList<>();
+		/**
+		 * This search's JMX monitor, or null.
+		 */
+		private SearchMonitor monitor;
+		private long expanded = 0;
+		/**
+		 * Each thread's successors, reused (with their capacity) from round to
+		 * round, where round n expands the states first reached at depth n-1.
+		 */
+		private final Map<Thread, Chunk> chunks = new ConcurrentHashMap<>();
+		private int round = 0;
+		MultiSourceSearch(List<? extends S> sources, int maxDepth) {
+			this.sources = sources;
+			this.maxDepth = maxDepth;
+			this.words = (sources.size() + 63) >>> 6;
+			this.distances = new int[sources.size()];
+			Arrays.fill(distances, -1);
+			this.answered = new long[words];
+			this.unanswered = sources.size();
+			this.shardCount = shards != 0 ? shards : ForkJoinPool.getCommonPoolParallelism() * 4;
+			for (int i = 0; i < shardCount; ++i) {
+				seen.add(new HashMap<>());
+				goals.add(new HashSet<>());
+			}
+		}
+
+		int[] run() {
+			if (jmxName != null)
+				monitor = SearchMonitor.register(jmxName);
 			try {
-				Stream<S> stream = Arrays.stream(frontier);
-				if (parallel) stream = stream.parallel();
-				frontier = stream
-						.flatMap(successors)
-						.peek(s -> {if (isSolution.test(s)) throw new SolutionException(s);})
-						.filter(filters != null ? filters : s -> true)
-						.toArray(arrayNew);
-			} catch (SolutionException e) {
-				@SuppressWarnings("unchecked")
-				S solution = (S)e.solution;
-				return Optional.of(solution);
+				return search();
+			} finally {
+				if (monitor != null)
+					monitor.unregister();
+			}
+		}
+
+		private int[] search() {
+			//the sources form the first frontier, merged like any other
+			Chunk start = chunkOf(Thread.currentThread());
+			for (int i = 0; i < distances.length; ++i) {
+				DistanceCache.Entry<S> cached = distanceCache != null ? distanceCache.lookup(sources.get(i)) : null;
+				if (cached != null && cached.distance <= maxDepth) {
+					distances[i] = cached.distance;
+					answered[i >>> 6] |= 1L << i;
+					--unanswered;
+					continue;
+				}
+				long[] bits = new long[words];
+				bits[i >>> 6] |= 1L << i;
+				start.add(sources.get(i), bits);
+			}
+			if (unanswered == 0) return distances;
+			for (int depth = 0; ; ++depth) {
+				IntStream shardStream = IntStream.range(0, shardCount);
+				if (parallel) shardStream = shardStream.parallel();
+				List<Frontier> next = shardStream.mapToObj(this::merge).collect(Collectors.toList());
+				//threads that sat this round out may be gone
+				chunks.values().removeIf(c -> c.round != round);
+				for (Frontier f : next)
+					for (int i = 0; i < f.goals.size(); ++i)
+						answer(f.goals.get(i), f.goalBits.get(i), depth);
+				if (unanswered == 0 || depth == maxDepth || (monitor != null && monitor.isCancelled())) break;
+
+				List<S> states = new ArrayList<>();
+				List<long[]> tags = new ArrayList<>();
+				for (Frontier f : next)
+					for (int i = 0; i < f.states.size(); ++i) {
+						long[] bits = f.tags.get(i);
+						if (andNot(bits, answered)) {
+							states.add(f.states.get(i));
+							tags.add(bits);
+						}
+					}
+				if (states.isEmpty()) break;
+				if (monitor != null) {
+					updateMonitor(depth + 1, states.size());
+					if (!monitor.proceed()) break;
+				}
+				expanded += states.size();
+				++round;
+				int chunkSize = Math.max(1, states.size() / (ForkJoinPool.getCommonPoolParallelism() * 4));
+				List<int[]> ranges = new ArrayList<>();
+				for (int c = 0; c < states.size(); c += chunkSize)
+					ranges.add(new int[]{c, Math.min(states.size(), c + chunkSize)});
+				//as in Generation, workers don't wait while paused; the calling
+				//thread does, then expands the ranges they left
+				while (!ranges.isEmpty()) {
+					Queue<int[]> paused = new ConcurrentLinkedQueue<>();
+					Stream<int[]> rangeStream = ranges.stream();
+					if (parallel) rangeStream = rangeStream.parallel();
+					rangeStream.forEach(r -> {
+						Chunk chunk = chunkOf(Thread.currentThread());
+						for (int i = r[0]; i < r[1]; ++i) {
+							if (monitor != null && monitor.isPaused()) {
+								paused.add(new int[]{i, r[1]});
+								return;
+							}
+							if (monitor != null && monitor.isCancelled()) return;
+							chunk.expand(states.get(i), tags.get(i));
+						}
+					});
+					ranges = new ArrayList<>(paused);
+					if (!ranges.isEmpty() && !monitor.proceed()) break;
+				}
+			}
+			return distances;
+		}
+
+		/**
+		 * Returns the given thread's chunk, emptied if it was last filled in an
+		 * earlier round.  Only called by that thread.
+		 */
+		private Chunk chunkOf(Thread thread) {
+			Chunk c = chunks.computeIfAbsent(thread, t -> new Chunk());
+			if (c.round != round) {
+				for (int i = 0; i < shardCount; ++i) {
+					c.states.get(i).clear();
+					c.tags.get(i).clear();
+				}
+				c.round = round;
+			}
+			return c;
+		}
+
+		/**
+		 * Merges this round's successors in one shard into that shard's seen
+		 * map, emptying the chunks' buckets for the shard, and returns the
+		 * states with new bits.
+		 */
+		private Frontier merge(int shard) {
+			Map<S, long[]> shardSeen = seen.get(shard);
+			Set<S> shardGoals = goals.get(shard);
+			Map<S, long[]> fresh = new LinkedHashMap<>();
+			for (Chunk c : chunks.values()) {
+				if (c.round != round) continue;
+				List<S> states = c.states.get(shard);
+				List<long[]> tags = c.tags.get(shard);
+				for (int i = 0; i < states.size(); ++i) {
+					S s = states.get(i);
+					long[] bits = tags.get(i);
+					long[] seenBits = shardSeen.get(s);
+					if (seenBits == null) {
+						shardSeen.put(s, seenBits = new long[words]);
+						if (isSolution.test(s))
+							shardGoals.add(s);
+					}
+					long[] freshBits = null;
+					for (int w = 0; w < words; ++w) {
+						long newBits = bits[w] & ~seenBits[w];
+						if (newBits == 0) continue;
+						seenBits[w] |= newBits;
+						if (freshBits == null)
+							freshBits = fresh.computeIfAbsent(s, k -> new long[words]);
+						freshBits[w] |= newBits;
+					}
+				}
 			}
+			Frontier f = new Frontier();
+			for (Map.Entry<S, long[]> e : fresh.entrySet()) {
+				if (shardGoals.contains(e.getKey())) {
+					f.goals.add(e.getKey());
+					f.goalBits.add(e.getValue());
+				}
+				else {
+					f.states.add(e.getKey());
+					f.tags.add(e.getValue());
+				}
+			}
+			return f;
+		}
+
+		private void updateMonitor(int generation, int frontierSize) {
+			long seenSize = 0;
+			for (Map<S, long[]> m : seen)
+				seenSize += m.size();
+			//a hash map node plus the bitmap per seen state, and the frontier
+			long bytes = seenSize * (48 + 16 + 8L * words) + frontierSize * 16L;
+			monitor.update(generation, frontierSize, seenSize, expanded, bytes);
+		}
+
+		private void answer(S goal, long[] bits, int depth) {
+			for (int w = 0; w < words; ++w)
+				for (long b = bits[w] & ~answered[w]; b != 0; b &= b - 1) {
+					int source = (w << 6) + Long.numberOfTrailingZeros(b);
+					distances[source] = depth;
+					--unanswered;
+					if (distanceCache != null)
+						distanceCache.put(sources.get(source), depth, goal);
+				}
+			for (int w = 0; w < words; ++w)
+				answered[w] |= bits[w];
+		}
+
+		/**
+		 * Clears the masked bits, returning true if any bits remain.
+		 */
+		private boolean andNot(long[] bits, long[] mask) {
+			boolean any = false;
+			for (int w = 0; w < bits.length; ++w)
+				any |= (bits[w] &= ~mask[w]) != 0;
+			return any;
+		}
+
+		/**
+		 * One thread's successors in one round, bucketed by shard and tagged
+		 * with their parent's bitmap.
+		 */
+		private final class Chunk {
+			final List<List<S>> states = new ArrayList<>(shardCount);
+			final List<List<long[]>> tags = new ArrayList<>(shardCount);
+			/**
+			 * The round this chunk was last filled in.
+			 */
+			int round;
+			Chunk() {
+				for (int i = 0; i < shardCount; ++i) {
+					states.add(new ArrayList<>());
+					tags.add(new ArrayList<>());
+				}
+			}
+			void add(S s, long[] bits) {
+				int shard = Math.floorMod(mix(s.hashCode()), shardCount);
+				states.get(shard).add(s);
+				tags.get(shard).add(bits);
+			}
+			/**
+			 * Scratch space for batched searches with batch filters.
+			 */
+			private SuccessorBatch<S> batch;
+			private boolean[] mask;
+			void expand(S state, long[] bits) {
+				if (!batchFilters.isEmpty()) {
+					expandBatched(state, bits);
+					return;
+				}
+				successors.generate(state, new Sink<S>() {
+					@Override
+					public void accept(S s) {
+						if (filters == null || filters.test(s))
+							add(s, bits);
+					}
+					@Override
+					public boolean isDone() {
+						return false;
+					}
+				});
+			}
+			/**
+			 * Expands the given state with the batch successor generator, so the
+			 * batch filters run over its successors.
+			 */
+			private void expandBatched(S state, long[] bits) {
+				if (batch == null) {
+					batch = new SuccessorBatch<>(16);
+					mask = new boolean[16];
+				}
+				batch.clear();
+				batchSuccessors.generate(Collections.singletonList(state), batch);
+				if (mask.length < batch.size())
+					mask = new boolean[Math.max(batch.size(), mask.length * 2)];
+				for (BatchPredicate<S> f : batchFilters) {
+					f.test(batch, mask);
+					batch.retain(mask);
+				}
+				for (int i = 0; i < batch.size(); ++i) {
+					S s = batch.get(i);
+					if (filters == null || filters.test(s))
+						add(s, bits);
+				}
+			}
+		}
+
+		/**
+		 * One shard's states with new bits after a merge.
+		 */
+		private final class Frontier {
+			final List<S> states = new ArrayList<>();
+			final List<long[]> tags = new ArrayList<>();
+			final List<S> goals = new ArrayList<>();
+			final List<long[]> goalBits = new ArrayList<>();
+		}
+	}
+
+	private OffHeapFrontier newOffHeapFrontier() {
+		return offHeapPool != null ? new OffHeapFrontier(offHeapStateSize, offHeapPool) : new OffHeapFrontier(offHeapStateSize);
+	}
+
+	/**
+	 * Appends the given states to the given off-heap frontier.
+	 */
+	private static void appendAll(OffHeapFrontier frontier, Collection<?> states) {
+		try (OffHeapFrontier.Appender appender = frontier.appender()) {
+			for (Object s : states)
+				appender.append(asContainer(s));
 		}
-		return Optional.empty();
 	}
 
-	@SuppressWarnings("serial")
-	private static final class SolutionException extends RuntimeException {
-		public final Object solution;
-		SolutionException(Object solution) {
-			this.solution = solution;
+	private static DataContainer asContainer(Object state) {
+		if (!(state instanceof DataContainer))
+			throw new IllegalArgumentException("off-heap frontiers only hold DataContainers: "+state);
+		return (DataContainer)state;
+	}
+
+	/**
+	 * An unmodifiable list view of a sealed off-heap frontier, copying each
+	 * state onto the heap as it's read.
+	 */
+	private final class OffHeapList extends AbstractList<S> implements RandomAccess {
+		final OffHeapFrontier states;
+		private final int size;
+		OffHeapList(OffHeapFrontier states) {
+			long size = states.size();
+			if (size > Integer.MAX_VALUE - 8) throw new IllegalStateException("frontier too large: "+size);
+			this.states = states;
+			this.size = (int)size;
+		}
+		@Override
+		@SuppressWarnings("unchecked")
+		public S get(int index) {
+			return (S)states.copy(index);
 		}
 		@Override
-		public synchronized Throwable fillInStackTrace() {
-			return this;
+		public int size() {
+			return size;
+		}
+	}
+
+	private VisitedSet<S>[] newVisitedSet() {
+		if (shards == 0) return null;
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		VisitedSet<S>[] visited = new VisitedSet[shards];
+		for (int i = 0; i < visited.length; ++i)
+			visited[i] = visitedSetFactory.get();
+		return visited;
+	}
+
+	private int shardOf(S state) {
+		return Math.floorMod(mix(state.hashCode()), shards);
+	}
+
+	private static int mix(int hashCode) {
+		int h = hashCode * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * One worker's successors in one generation, bucketed by visited-set shard
+	 * (or in a single bucket if we aren't deduplicating).
+	 */
+	private final class Buckets {
+		final List<S>[] lists;
+		/**
+		 * In beam searches without a visited set, the worker's best kept
+		 * successors; otherwise null.
+		 */
+		final TopK<S> beam;
+		/**
+		 * In searches keeping frontiers off-heap without a beam or visited set,
+		 * the worker's appender to this generation's next frontier; otherwise
+		 * null.
+		 */
+		OffHeapFrontier.Appender appender;
+		/**
+		 * The generation these buckets were last filled in.
+		 */
+		int generation;
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Buckets(int count, boolean beam) {
+			this.lists = new List[count];
+			for (int i = 0; i < lists.length; ++i)
+				lists[i] = new ArrayList<>();
+			this.beam = beam ? new TopK<>(beamWidth) : null;
+		}
+
+		void clear() {
+			for (List<S> l : lists)
+				l.clear();
+			if (beam != null)
+				beam.clear();
+			appender = null;
+		}
+	}
+
+	/**
+	 * One generation's expansion.  The frontier is expanded by
+	 * {@link ExpandTask}s, each of which writes successors into its worker's
+	 * {@link Buckets} (one per visited-set shard, or a single bucket if we
+	 * aren't deduplicating), which are reused across generations so each
+	 * generation doesn't allocate tasks times shards lists.  If we are
+	 * deduplicating, each shard's buckets from all workers are then checked
+	 * against that shard of the visited set by a single task, so the visited
+	 * set needs no synchronization; the fork-join joins provide the
+	 * happens-before edges between phases.  When frontiers are off-heap, kept
+	 * successors pass through the buckets in batches on their way to the next
+	 * frontier, unless they must wait there for deduplication.
+	 */
+	private final class Generation {
+		private final Search search;
+		private final List<S> frontier;
+		private final int frontierSize;
+		/**
+		 * The off-heap frontiers holding this generation's frontier and the
+		 * next, if we're keeping frontiers off-heap.
+		 */
+		private final OffHeapFrontier frontierStates, nextStates;
+		private final VisitedSet<S>[] visited;
+		private final GenerationStats stats;
+		private final AtomicReference<S> solution = new AtomicReference<>();
+		private final Queue<Output> outputs = new ConcurrentLinkedQueue<>();
+		/**
+		 * Nanoseconds each worker spent expanding.  Workers are threads, or in
+		 * blocking mode concurrency slots (since each chunk may run on a new
+		 * thread).  Each worker only updates its own entry.
+		 */
+		private final Map<Object, long[]> busy = new ConcurrentHashMap<>();
+		/**
+		 * Each worker's callback latency histograms, if we're recording them.
+		 */
+		private final Map<Object, Latencies> latencies = new ConcurrentHashMap<>();
+		private final LongAdder successorCount = new LongAdder();
+		private final LongAdder taskCount = new LongAdder();
+		/**
+		 * The expected expansion cost of a state, used before a task has
+		 * measured its own.
+		 */
+		private final long priorNanosPerState;
+		/**
+		 * Whether successors are goal-tested as they're generated, or only
+		 * once they're known to be unique.
+		 */
+		private final boolean goalTest, lateGoalTest;
+		/**
+		 * The number of expansions left before we exceed the search's budget, or
+		 * null if it has none.
+		 */
+		private final AtomicLong expansionsLeft;
+		private final LongAdder expandedCount = new LongAdder();
+		/**
+		 * The frontier ranges fork-join workers left unexpanded because the
+		 * search was paused.
+		 */
+		private final Queue<int[]> pausedRanges = new ConcurrentLinkedQueue<>();
+		/**
+		 * The number of unique candidates offered to beams.
+		 */
+		private final LongAdder beamCandidates = new LongAdder();
+		/**
+		 * Whether this generation is expanded (and deduplicated) in parallel on
+		 * the fork-join pool.
+		 */
+		private final boolean forkJoin;
+		/**
+		 * Set when a limit is reached; workers stop at their next state.
+		 */
+		private volatile boolean stopped = false;
+		Generation(Search search) {
+			this.search = search;
+			this.frontier = search.frontier;
+			this.frontierSize = frontier.size();
+			this.frontierStates = search.offHeapFrontier;
+			this.nextStates = offHeapStateSize != 0 ? newOffHeapFrontier() : null;
+			this.visited = search.visited;
+			this.priorNanosPerState = search.nanosPerState;
+			this.goalTest = search.goalTest && !goalTestAfterDeduplication;
+			this.lateGoalTest = search.goalTest && goalTestAfterDeduplication;
+			this.expansionsLeft = search.limits.maxExpansions() == Long.MAX_VALUE ? null :
+					new AtomicLong(search.limits.maxExpansions() - search.expanded);
+			this.forkJoin = parallel && blockingExecutor == null &&
+					(double)frontierSize * priorNanosPerState >= MIN_PARALLEL_GENERATION_NANOS;
+			this.stats = new GenerationStats(search.depth + 1, frontierSize);
+			stats.mode = blockingExecutor != null ? GenerationStats.Mode.BLOCKING :
+					forkJoin ? GenerationStats.Mode.PARALLEL : GenerationStats.Mode.SEQUENTIAL;
+		}
+
+		boolean isDone() {
+			return stopped || solution.get() != null;
+		}
+
+		List<S> run() {
+			long begin = System.nanoTime();
+			List<S> next = null;
+			try {
+				if (blockingExecutor != null)
+					expandBlocking();
+				else {
+					new ExpandTask(0, frontierSize).invoke();
+					expandPaused();
+				}
+				next = isDone() ? null :
+						visited != null ? deduplicate() : concatenate();
+				if (solution.get() != null)
+					next = null;
+			} finally {
+				//free the partial next frontier of a generation cut short
+				if (next == null && nextStates != null)
+					nextStates.close();
+			}
+			if (next != null && beamWidth != 0)
+				stats.beamDiscarded = beamCandidates.sum() - next.size();
+
+			stats.elapsedNanos = System.nanoTime() - begin;
+			stats.successors = successorCount.sum();
+			stats.expanded = expandedCount.sum();
+			stats.nextFrontierSize = next != null ? next.size() : 0;
+			stats.cutShort = next == null;
+			for (Output o : outputs)
+				stats.candidates += o.kept;
+			//deduplication empties the buckets it reads, but a generation cut
+			//short leaves them full; workers that sat this generation out may
+			//be gone, so drop theirs
+			search.buckets.values().removeIf(b -> {
+				if (b.generation != stats.generation()) return true;
+				b.clear();
+				return false;
+			});
+			if (visited != null) {
+				double omission = 0, noCollision = 1;
+				for (VisitedSet<S> v : visited) {
+					stats.visited += v.size();
+					omission += v.omissionProbability();
+					noCollision *= 1 - v.collisionProbability();
+				}
+				stats.omissionProbability = omission / visited.length;
+				stats.collisionProbability = 1 - noCollision;
+			}
+			stats.tasks = taskCount.intValue();
+			stats.workers = busy.size();
+			if (latencySampleInterval != 0) {
+				stats.successorLatency = new LatencyHistogram(latencySampleInterval);
+				stats.filterLatency = new LatencyHistogram(latencySampleInterval);
+				stats.goalLatency = new LatencyHistogram(latencySampleInterval);
+				for (Latencies l : latencies.values()) {
+					stats.successorLatency.add(l.successors);
+					stats.filterLatency.add(l.filter);
+					stats.goalLatency.add(l.goal);
+				}
+			}
+			long total = 0, max = 0;
+			for (long[] b : busy.values()) {
+				total += b[0];
+				max = Math.max(max, b[0]);
+			}
+			int available = blockingExecutor != null ? busy.size() :
+					forkJoin ? Math.max(busy.size(), ForkJoinPool.getCommonPoolParallelism()) : 1;
+			if (total > 0)
+				stats.loadImbalance = (double)max * available / total;
+			return next;
+		}
+
+		/**
+		 * Returns the mean time spent expanding each state in this generation.
+		 */
+		long nanosPerState() {
+			long total = 0;
+			for (long[] b : busy.values())
+				total += b[0];
+			return frontierSize == 0 ? priorNanosPerState : Math.max(1, total / frontierSize);
+		}
+
+		/**
+		 * Expands the frontier in chunks on the blocking executor.  Each chunk
+		 * in flight holds one of {@code blockingConcurrency} slots, so the number
+		 * of outstanding tasks (and blocked threads) stays bounded; the slots
+		 * also serve as the workers that busy time and latencies are recorded
+		 * for.  If this thread is interrupted, the chunks in flight are stopped
+		 * at their next state and awaited before the generation is cancelled.
+		 */
+		private void expandBlocking() {
+			int chunkSize = Math.max(1, frontierSize / (blockingConcurrency * 4));
+			BlockingQueue<Integer> slots = new ArrayBlockingQueue<>(blockingConcurrency);
+			for (int i = 0; i < blockingConcurrency; ++i)
+				slots.add(i);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			InterruptedException interrupted = null;
+			boolean submitted = false;
+			try {
+				for (int c = 0; c < frontierSize && failure.get() == null && !isDone(); c += chunkSize) {
+					int begin = c, end = Math.min(frontierSize, c + chunkSize);
+					Integer slot = slots.take();
+					try {
+						blockingExecutor.execute(() -> {
+							try {
+								taskCount.increment();
+								expandRange(begin, end, slot);
+							} catch (Throwable t) {
+								failure.compareAndSet(null, t);
+							} finally {
+								slots.add(slot);
+							}
+						});
+					} catch (RuntimeException e) {
+						slots.add(slot);
+						throw e;
+					}
+				}
+				submitted = true;
+			} catch (InterruptedException e) {
+				interrupted = e;
+			} finally {
+				if (!submitted)
+					stopped = true;
+				//wait for the in-flight chunks, even if interrupted
+				for (int held = 0; held < blockingConcurrency; )
+					try {
+						slots.take();
+						++held;
+					} catch (InterruptedException e) {
+						if (interrupted == null) interrupted = e;
+					}
+			}
+			if (interrupted != null) {
+				Thread.currentThread().interrupt();
+				CancellationException ce = new CancellationException("interrupted while expanding");
+				ce.initCause(interrupted);
+				throw ce;
+			}
+			Throwable t = failure.get();
+			if (t instanceof RuntimeException) throw (RuntimeException)t;
+			if (t instanceof Error) throw (Error)t;
+			if (t != null) throw new RuntimeException(t);
+		}
+
+		/**
+		 * Waits on this thread for the search to be resumed, then expands the
+		 * ranges fork-join workers left when it was paused, until none are left
+		 * or the search is cancelled.
+		 */
+		private void expandPaused() {
+			while (!pausedRanges.isEmpty() && !isDone()) {
+				if (!search.monitor.proceed()) {
+					stopped = true;
+					return;
+				}
+				List<ExpandTask> tasks = new ArrayList<>();
+				for (int[] r; (r = pausedRanges.poll()) != null; )
+					tasks.add(new ExpandTask(r[0], r[1]));
+				ForkJoinTask.invokeAll(tasks);
+			}
+		}
+
+		private void expandRange(int begin, int end, Object worker) {
+			Output output = new Output(worker);
+			long start = System.nanoTime();
+			for (int i = begin; i < end && !output.isDone(); )
+				i = output.expand(i, end);
+			output.flush();
+			finish(output, System.nanoTime() - start);
+		}
+
+		private void finish(Output output, long nanos) {
+			if (output.budget != 0)
+				expansionsLeft.addAndGet(output.budget);
+			busy.computeIfAbsent(output.worker, w -> new long[1])[0] += nanos;
+			successorCount.add(output.generated);
+			expandedCount.add(output.expanded);
+			outputs.add(output);
+		}
+
+		private List<S> concatenate() {
+			if (beamWidth != 0) {
+				TopK<S> merged = new TopK<>(beamWidth);
+				for (Buckets b : search.buckets.values())
+					if (b.generation == stats.generation())
+						merged = merged.merge(b.beam);
+				return toFrontier(merged.toArray());
+			}
+			if (nextStates != null) {
+				for (Buckets b : search.buckets.values())
+					if (b.generation == stats.generation())
+						b.appender.close();
+				return new OffHeapList(nextStates);
+			}
+			int size = 0;
+			for (Buckets b : search.buckets.values())
+				if (b.generation == stats.generation())
+					size += b.lists[0].size();
+			S[] next = newArray(size);
+			int i = 0;
+			for (Buckets b : search.buckets.values())
+				if (b.generation == stats.generation()) {
+					for (S s : b.lists[0])
+						next[i++] = s;
+					b.lists[0].clear();
+				}
+			return Arrays.asList(next);
+		}
+
+		/**
+		 * Returns the given states as the next frontier, appending them to the
+		 * next off-heap frontier if we're keeping frontiers off-heap.
+		 */
+		private List<S> toFrontier(S[] states) {
+			if (nextStates == null) return Arrays.asList(states);
+			appendAll(nextStates, Arrays.asList(states));
+			return new OffHeapList(nextStates);
+		}
+
+		/**
+		 * Goal-tests the given unique candidates if we're testing late, then
+		 * unless that (or anything else) ended the generation, offers them to
+		 * the given beam or, if it's null, appends them to the given off-heap
+		 * appender.  Clears the candidates.
+		 * @param l the worker's latency histograms, or null
+		 */
+		private void emit(List<S> states, TopK<S> beam, OffHeapFrontier.Appender appender, Latencies l) {
+			if (lateGoalTest && !isDone())
+				testGoal(states, l);
+			if (!isDone()) {
+				if (beam != null) {
+					beamCandidates.add(states.size());
+					for (S s : states)
+						beam.offer(s, beamScore.applyAsDouble(s));
+				} else
+					for (S s : states)
+						appender.append(asContainer(s));
+			}
+			states.clear();
+		}
+
+		/**
+		 * Claims up to the given number of expansions from the budget,
+		 * returning the number claimed, or 0 if it's exhausted.
+		 */
+		private long claimExpansions(long wanted) {
+			while (true) {
+				long left = expansionsLeft.get();
+				if (left <= 0) return 0;
+				long claimed = Math.min(left, wanted);
+				if (expansionsLeft.compareAndSet(left, left - claimed))
+					return claimed;
+			}
+		}
+
+		/**
+		 * Returns the given worker's buckets, emptied if they were last filled
+		 * in an earlier generation.  Only called by the worker itself.
+		 */
+		private Buckets bucketsOf(Object worker) {
+			Buckets b = search.buckets.computeIfAbsent(worker, w -> new Buckets(visited != null ? visited.length : 1,
+					beamWidth != 0 && visited == null));
+			if (b.generation != stats.generation()) {
+				b.clear();
+				b.generation = stats.generation();
+				if (nextStates != null && beamWidth == 0 && visited == null)
+					b.appender = nextStates.appender();
+			}
+			return b;
+		}
+
+		/**
+		 * Goal-tests the given states, recording the first solution.
+		 * @param l the worker's latency histograms, or null
+		 */
+		private void testGoal(List<S> states, Latencies l) {
+			if (batchIsSolution == null) {
+				for (S s : states) {
+					long start = l != null ? l.goal.start() : Long.MIN_VALUE;
+					boolean goal = isSolution.test(s);
+					if (l != null) l.goal.stop(start, 0);
+					if (goal) {
+						solution.compareAndSet(null, s);
+						return;
+					}
+				}
+				return;
+			}
+			SuccessorBatch<S> batch = new SuccessorBatch<>(Math.min(states.size(), batchSize));
+			boolean[] mask = new boolean[batchSize];
+			for (int begin = 0; begin < states.size() && solution.get() == null; begin += batchSize) {
+				batch.clear();
+				for (S s : states.subList(begin, Math.min(states.size(), begin + batchSize)))
+					batch.add(s);
+				long start = l != null ? l.goal.start() : Long.MIN_VALUE;
+				batchIsSolution.test(batch, mask);
+				if (l != null) l.goal.stop(start, 0);
+				for (int i = 0; i < batch.size(); ++i)
+					if (mask[i]) {
+						solution.compareAndSet(null, batch.get(i));
+						return;
+					}
+			}
+		}
+
+		/**
+		 * Returns the given worker's latency histograms, or null if we aren't
+		 * recording them.
+		 */
+		private Latencies latencies(Object worker) {
+			return latencySampleInterval == 0 ? null :
+					latencies.computeIfAbsent(worker, w -> new Latencies());
+		}
+
+		/**
+		 * One worker's callback latency histograms, written only by that
+		 * worker.
+		 */
+		private final class Latencies {
+			final LatencyHistogram successors = new LatencyHistogram(latencySampleInterval),
+					filter = new LatencyHistogram(latencySampleInterval),
+					goal = new LatencyHistogram(latencySampleInterval);
+		}
+
+		private List<S> deduplicate() {
+			IntStream shardStream = IntStream.range(0, visited.length);
+			if (forkJoin) shardStream = shardStream.parallel();
+			if (beamWidth != 0)
+				return toFrontier(shardStream.mapToObj(shard -> deduplicateInto(shard, new TopK<>(beamWidth), null))
+						.reduce(TopK::merge).get().toArray());
+			if (nextStates != null) {
+				shardStream.forEach(shard -> {
+					try (OffHeapFrontier.Appender appender = nextStates.appender()) {
+						deduplicateInto(shard, null, appender);
+					}
+				});
+				return new OffHeapList(nextStates);
+			}
+			return Arrays.asList(shardStream.mapToObj(shard -> {
+				VisitedSet<S> set = visited[shard];
+				List<S> unique = new ArrayList<>();
+				for (Buckets b : search.buckets.values())
+					if (b.generation == stats.generation()) {
+						for (S s : b.lists[shard])
+							if (set.add(s))
+								unique.add(s);
+						b.lists[shard].clear();
+					}
+				if (lateGoalTest)
+					testGoal(unique, latencies(Thread.currentThread()));
+				return unique;
+			}).flatMap(List::stream).toArray(ParallelBFS::newArray));
+		}
+
+		/**
+		 * Deduplicates the given shard's buckets, passing the new states to the
+		 * given beam (a beam-width at a time) or, if it's null, the given
+		 * off-heap appender, and returns the beam.
+		 */
+		private TopK<S> deduplicateInto(int shard, TopK<S> beam, OffHeapFrontier.Appender appender) {
+			VisitedSet<S> set = visited[shard];
+			Latencies l = latencies(Thread.currentThread());
+			int batch = beam != null ? beamWidth : OFF_HEAP_BATCH;
+			List<S> unique = new ArrayList<>();
+			for (Buckets b : search.buckets.values())
+				if (b.generation == stats.generation()) {
+					for (S s : b.lists[shard])
+						if (set.add(s) && unique.add(s) && unique.size() == batch)
+							emit(unique, beam, appender, l);
+					b.lists[shard].clear();
+				}
+			emit(unique, beam, appender, l);
+			return beam;
+		}
+
+		/**
+		 * Expands a range of the frontier, splitting lazily: before expanding
+		 * each state, if this worker's deque is nearly empty (so other workers
+		 * are likely idle) and the unexpanded remainder of the range is expected
+		 * to take long enough to be worth a task, the remainder is halved and
+		 * the upper half forked.  The expected cost is this task's measured cost
+		 * per state so far, so ranges containing a few expensive states keep
+		 * splitting down to single states while cheap ranges are expanded in
+		 * large chunks.
+		 */
+		@SuppressWarnings("serial")
+		private final class ExpandTask extends RecursiveAction {
+			private final int begin, end;
+			ExpandTask(int begin, int end) {
+				this.begin = begin;
+				this.end = end;
+			}
+			@Override
+			protected void compute() {
+				taskCount.increment();
+				List<ExpandTask> forked = null;
+				Output output = new Output(Thread.currentThread());
+				long start = System.nanoTime();
+				int hi = end;
+				for (int i = begin; i < hi && !output.isDone(); ) {
+					long nanosPerState = i == begin ? priorNanosPerState : (System.nanoTime() - start) / (i - begin);
+					while (forkJoin && hi - i > 1 && (hi - i) * nanosPerState >= MIN_TASK_NANOS
+							&& getSurplusQueuedTaskCount() <= SURPLUS_TASK_THRESHOLD) {
+						int mid = (i + hi) >>> 1;
+						ExpandTask t = new ExpandTask(mid, hi);
+						t.fork();
+						if (forked == null) forked = new ArrayList<>();
+						forked.add(t);
+						hi = mid;
+					}
+					i = output.expand(i, hi);
+				}
+				output.flush();
+				finish(output, System.nanoTime() - start);
+				if (forked != null)
+					for (int i = forked.size()-1; i >= 0; --i)
+						forked.get(i).join();
+			}
 		}
+
+		/**
+		 * A task's output buffer, which goal-tests, filters and buckets the
+		 * successors pushed into it.
+		 */
+		private final class Output implements Sink<S> {
+			/**
+			 * The worker's buckets, shared with the worker's other tasks, and the
+			 * size of the first bucket when this task started.  In beam searches
+			 * without a visited set, the first bucket only holds successors not
+			 * yet offered to the worker's beam.
+			 */
+			private final List<S>[] buckets;
+			private final int firstBucketStart;
+			/**
+			 * Where kept successors go once they leave the first bucket, if they
+			 * don't stay there: the worker's beam or its appender to the next
+			 * off-heap frontier; and how many are batched in the bucket first.
+			 */
+			private final TopK<S> beam;
+			private final OffHeapFrontier.Appender appender;
+			private final int batchKept;
+			/**
+			 * A reusable view of the off-heap frontier, if it's off-heap.
+			 */
+			private final OffHeapFrontier.View view;
+			private long generated = 0, expanded = 0, kept = 0;
+			/**
+			 * Expansions claimed from the search's budget but not yet used,
+			 * returned when the task finishes.
+			 */
+			private long budget = 0;
+			/**
+			 * The best-scoring successor this task generated, if the search is
+			 * scoring states.
+			 */
+			private S best;
+			private double bestScore = Double.NEGATIVE_INFINITY;
+			/**
+			 * The kept successor with the least cached distance, if the search
+			 * has a distance cache.
+			 */
+			private DistanceCache.Entry<S> cached;
+			/**
+			 * Scratch space for batched searches, reused for each batch.
+			 */
+			private final SuccessorBatch<S> batch;
+			private boolean[] mask;
+			/**
+			 * The worker this output's time and latencies are recorded for.
+			 */
+			private final Object worker;
+			/**
+			 * The worker's latency histograms, or null.  While timing a
+			 * successor function call, the time spent in this sink is
+			 * accumulated so it can be subtracted.
+			 */
+			private final Latencies latencies;
+			private boolean timingSink = false;
+			private long sinkNanos;
+			Output(Object worker) {
+				this.worker = worker;
+				this.latencies = latencies(worker);
+				Buckets b = bucketsOf(worker);
+				this.buckets = b.lists;
+				this.firstBucketStart = buckets[0].size();
+				this.beam = b.beam;
+				this.appender = b.appender;
+				this.batchKept = beam != null ? beamWidth : OFF_HEAP_BATCH;
+				this.view = frontierStates != null ? frontierStates.view() : null;
+				this.batch = batchSuccessors != null ? new SuccessorBatch<>(batchSize) : null;
+				this.mask = batchSuccessors != null ? new boolean[batchSize] : null;
+			}
+
+			/**
+			 * Expands the frontier state at the given index, or in batched searches
+			 * a batch starting there, and returns the index of the next unexpanded
+			 * state.
+			 */
+			int expand(int index, int limit) {
+				SearchMonitor m = search.monitor;
+				if (m != null && blockingExecutor == null && m.isPaused()) {
+					//don't hold a pool thread while paused; the calling thread
+					//expands the rest of the range once resumed
+					pausedRanges.add(new int[]{index, limit});
+					return limit;
+				}
+				if (m != null && (blockingExecutor == null ? m.isCancelled() : !m.proceed())) {
+					stopped = true;
+					return limit;
+				}
+				if (search.pastDeadline()) {
+					stopped = true;
+					return limit;
+				}
+				int end = batchSuccessors == null ? index + 1 : Math.min(limit, index + batchSize);
+				if (expansionsLeft != null) {
+					if (budget < end - index)
+						budget += claimExpansions(Math.max(end - index, Math.min(limit - index, EXPANSION_CLAIM)) - budget);
+					if (budget == 0) {
+						stopped = true;
+						return limit;
+					}
+					end = (int)Math.min(end, index + budget);
+					budget -= end - index;
+				}
+				expanded += end - index;
+				long start = latencies != null ? latencies.successors.start() : Long.MIN_VALUE;
+				if (batchSuccessors == null) {
+					timingSink = start != Long.MIN_VALUE;
+					sinkNanos = 0;
+					successors.generate(state(index), this);
+					timingSink = false;
+					if (latencies != null) latencies.successors.stop(start, sinkNanos);
+					return end;
+				}
+				batch.clear();
+				batchSuccessors.generate(states(index, end), batch);
+				if (latencies != null) latencies.successors.stop(start, 0);
+				generated += batch.size();
+				if (mask.length < batch.size())
+					mask = new boolean[Math.max(batch.size(), mask.length * 2)];
+				if (goalTest) {
+					start = latencies != null ? latencies.goal.start() : Long.MIN_VALUE;
+					batchIsSolution.test(batch, mask);
+					if (latencies != null) latencies.goal.stop(start, 0);
+					for (int i = 0; i < batch.size(); ++i)
+						if (mask[i]) {
+							solution.compareAndSet(null, batch.get(i));
+							return end;
+						}
+				}
+				for (BatchPredicate<S> f : batchFilters) {
+					start = latencies != null ? latencies.filter.start() : Long.MIN_VALUE;
+					f.test(batch, mask);
+					if (latencies != null) latencies.filter.stop(start, 0);
+					batch.retain(mask);
+				}
+				for (int i = 0; i < batch.size(); ++i) {
+					S s = batch.get(i);
+					if (passes(s))
+						keep(s);
+				}
+				return end;
+			}
+
+			@Override
+			public void accept(S s) {
+				if (isDone()) return;
+				++generated;
+				long sinkStart = timingSink ? System.nanoTime() : 0;
+				if (goalTest && isGoal(s))
+					solution.compareAndSet(null, s);
+				else if (passes(s))
+					keep(s);
+				if (timingSink)
+					sinkNanos += System.nanoTime() - sinkStart;
+			}
+
+			private boolean isGoal(S s) {
+				if (latencies == null) return isSolution.test(s);
+				long start = latencies.goal.start();
+				boolean goal = isSolution.test(s);
+				latencies.goal.stop(start, 0);
+				return goal;
+			}
+
+			private boolean passes(S s) {
+				if (filters == null) return true;
+				if (latencies == null) return filters.test(s);
+				long start = latencies.filter.start();
+				boolean pass = filters.test(s);
+				latencies.filter.stop(start, 0);
+				return pass;
+			}
+
+			private void keep(S s) {
+				buckets[visited != null ? shardOf(s) : 0].add(s);
+				++kept;
+				if (distanceCache != null && search.goalTest) {
+					DistanceCache.Entry<S> e = distanceCache.lookup(s);
+					if (e != null && (cached == null || e.distance < cached.distance))
+						cached = e;
+				}
+				if (search.score != null) {
+					double sc = search.score.applyAsDouble(s);
+					if (best == null || sc > bestScore) {
+						best = s;
+						bestScore = sc;
+					}
+				}
+				if ((beam != null || appender != null) && buckets[0].size() - firstBucketStart == batchKept)
+					emit(buckets[0].subList(firstBucketStart, buckets[0].size()), beam, appender, latencies);
+			}
+
+			/**
+			 * Returns the frontier state at the given index, copying it onto the
+			 * heap if the frontier is off-heap.
+			 */
+			@SuppressWarnings("unchecked")
+			private S state(int index) {
+				return view != null ? (S)view.moveTo(index).copy() : frontier.get(index);
+			}
+
+			private List<S> states(int begin, int end) {
+				if (view == null) return frontier.subList(begin, end);
+				List<S> states = new ArrayList<>(end - begin);
+				for (int i = begin; i < end; ++i)
+					states.add(state(i));
+				return states;
+			}
+
+			/**
+			 * Finishes this task's kept successors: if they leave the first
+			 * bucket for a beam or an off-heap frontier, passes on those still
+			 * there, and otherwise goal-tests them if we're testing late but not
+			 * deduplicating, so the test runs in parallel like expansion.  (If
+			 * another of the worker's tasks ran nested in this one, its
+			 * successors are tested twice, which is harmless.)
+			 */
+			void flush() {
+				if (beam != null || appender != null)
+					emit(buckets[0].subList(firstBucketStart, buckets[0].size()), beam, appender, latencies);
+				else if (lateGoalTest && visited == null && !isDone())
+					testGoal(buckets[0].subList(firstBucketStart, buckets[0].size()), latencies);
+			}
+
+			@Override
+			public boolean isDone() {
+				return Generation.this.isDone();
+			}
+		}
+	}
+
+	/**
+	 * A bounded min-heap of the k highest-scoring states offered, for
+	 * {@link #beam}.
+	 */
+	private static final class TopK<S> {
+		private static final class Scored<S> {
+			final S state;
+			final double score;
+			Scored(S state, double score) {
+				this.state = state;
+				this.score = score;
+			}
+		}
+		private static final Comparator<Scored<?>> BY_SCORE = Comparator.comparingDouble(s -> s.score);
+		private final int k;
+		private final PriorityQueue<Scored<S>> heap;
+		TopK(int k) {
+			this.k = k;
+			this.heap = new PriorityQueue<>(Math.min(k, 1024), BY_SCORE);
+		}
+		void offer(S state, double score) {
+			//NaN would compare unequal to everything, so rank it last
+			if (Double.isNaN(score)) score = Double.NEGATIVE_INFINITY;
+			if (heap.size() < k)
+				heap.add(new Scored<>(state, score));
+			else if (score > heap.peek().score) {
+				heap.poll();
+				heap.add(new Scored<>(state, score));
+			}
+		}
+		void clear() {
+			heap.clear();
+		}
+		TopK<S> merge(TopK<S> other) {
+			TopK<S> larger = heap.size() >= other.heap.size() ? this : other,
+					smaller = larger == this ? other : this;
+			for (Scored<S> s : smaller.heap)
+				larger.offer(s.state, s.score);
+			return larger;
+		}
+		S[] toArray() {
+			S[] array = newArray(heap.size());
+			int i = 0;
+			for (Scored<S> s : heap)
+				array[i++] = s.state;
+			return array;
+		}
+	}
+
+	/**
+	 * Lazily holds the default executor for {@link #blocking(int)}: a virtual
+	 * thread per task where the runtime supports them, otherwise a cached pool
+	 * of daemon threads.
+	 */
+	private static final class DefaultBlockingExecutor {
+		static final Executor INSTANCE = create();
+		private static Executor create() {
+			try {
+				return (Executor)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				return Executors.newCachedThreadPool(r -> {
+					Thread t = new Thread(r, "ParallelBFS-blocking");
+					t.setDaemon(true);
+					return t;
+				});
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <S> S[] newArray(int length) {
+		return (S[])new Object[length];
 	}
 }
@@ -0,0 +1,74 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.time.Duration;
+
+/**
+ * Limits on a {@link ParallelBFS} search: a timeout, a budget of expanded
+ * states, and a maximum depth.  Instances are immutable; the {@code with}
+ * methods return modified copies.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class SearchLimits {
+	private static final SearchLimits NONE = new SearchLimits(Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+	private final long timeoutNanos;
+	private final long maxExpansions;
+	private final int maxDepth;
+	private SearchLimits(long timeoutNanos, long maxExpansions, int maxDepth) {
+		this.timeoutNanos = timeoutNanos;
+		this.maxExpansions = maxExpansions;
+		this.maxDepth = maxDepth;
+	}
+
+	public static SearchLimits none() {
+		return NONE;
+	}
+
+	/**
+	 * Returns limits that stop the search once the given time has elapsed since
+	 * it started, not counting time it spent paused through its
+	 * {@linkplain ParallelBFS#monitorWithJmx JMX monitor}.
+	 */
+	public SearchLimits withTimeout(Duration timeout) {
+		if (timeout.isNegative()) throw new IllegalArgumentException("negative timeout: "+timeout);
+		long nanos;
+		try {
+			nanos = timeout.toNanos();
+		} catch (ArithmeticException e) {
+			nanos = Long.MAX_VALUE;
+		}
+		return new SearchLimits(nanos, maxExpansions, maxDepth);
+	}
+
+	/**
+	 * Returns limits that stop the search after expanding the given number of
+	 * states.  Workers claim expansions from the budget in small blocks, so a
+	 * search may stop a few dozen expansions per worker short of the limit
+	 * when blocks claimed by other workers are still unused.
+	 */
+	public SearchLimits withMaxExpansions(long maxExpansions) {
+		if (maxExpansions < 0) throw new IllegalArgumentException("negative expansions: "+maxExpansions);
+		return new SearchLimits(timeoutNanos, maxExpansions, maxDepth);
+	}
+
+	/**
+	 * Returns limits that stop the search after expanding the given number of
+	 * generations.
+	 */
+	public SearchLimits withMaxDepth(int maxDepth) {
+		if (maxDepth < 0) throw new IllegalArgumentException("negative depth: "+maxDepth);
+		return new SearchLimits(timeoutNanos, maxExpansions, maxDepth);
+	}
+
+	long timeoutNanos() {
+		return timeoutNanos;
+	}
+
+	long maxExpansions() {
+		return maxExpansions;
+	}
+
+	int maxDepth() {
+		return maxDepth;
+	}
+}
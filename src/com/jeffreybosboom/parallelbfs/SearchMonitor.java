@@ -0,0 +1,195 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Publishes one search's progress over JMX and carries its pause, resume and
+ * cancel requests to the workers, which check them before each state (or
+ * batch) they expand and between generations.  Fork-join workers only poll
+ * {@link #isPaused} and {@link #isCancelled}, leaving the waiting in
+ * {@link #proceed} to the search's calling thread (or blocking-mode chunk
+ * threads), so a paused search doesn't occupy pool threads.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+final class SearchMonitor implements SearchMonitorMBean {
+	private static final AtomicLong NEXT_ID = new AtomicLong();
+	private final ObjectName objectName;
+	private final long startNanos = System.nanoTime();
+	private volatile int generation, frontierSize;
+	private volatile long visitedSize, statesExpanded, estimatedMemoryBytes;
+	private volatile boolean paused = false, cancelled = false;
+	/**
+	 * Time spent in completed pauses, written under this's lock.
+	 */
+	private volatile long pausedNanos = 0;
+	/**
+	 * When the current pause began, guarded by this.
+	 */
+	private long pausedAt;
+	/**
+	 * Waits for a resume or cancel, for {@link #proceed}.
+	 */
+	private final ForkJoinPool.ManagedBlocker resumeBlocker = new ForkJoinPool.ManagedBlocker() {
+		@Override
+		public boolean block() throws InterruptedException {
+			synchronized (SearchMonitor.this) {
+				while (paused && !cancelled)
+					SearchMonitor.this.wait();
+			}
+			return true;
+		}
+		@Override
+		public boolean isReleasable() {
+			return !isPaused();
+		}
+	};
+	private SearchMonitor(String name) {
+		try {
+			this.objectName = new ObjectName("com.jeffreybosboom.parallelbfs:type=Search,name="
+					+ObjectName.quote(name)+",id="+NEXT_ID.getAndIncrement());
+		} catch (JMException e) {
+			throw new IllegalArgumentException(name, e);
+		}
+	}
+
+	/**
+	 * Creates a monitor and registers it with the platform MBean server.
+	 */
+	static SearchMonitor register(String name) {
+		SearchMonitor monitor = new SearchMonitor(name);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.registerMBean(new StandardMBean(monitor, SearchMonitorMBean.class), monitor.objectName);
+		} catch (JMException e) {
+			throw new RuntimeException(e);
+		}
+		return monitor;
+	}
+
+	void unregister() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			//already unregistered
+		}
+	}
+
+	ObjectName objectName() {
+		return objectName;
+	}
+
+	void update(int generation, int frontierSize, long visitedSize, long statesExpanded, long estimatedMemoryBytes) {
+		this.generation = generation;
+		this.frontierSize = frontierSize;
+		this.visitedSize = visitedSize;
+		this.statesExpanded = statesExpanded;
+		this.estimatedMemoryBytes = estimatedMemoryBytes;
+	}
+
+	/**
+	 * Blocks while the search is paused, then returns false if it has been
+	 * cancelled.  Blocks through {@link ForkJoinPool#managedBlock}, so if the
+	 * caller is a pool thread, the pool can start a spare in its place.
+	 */
+	boolean proceed() {
+		if (isPaused()) {
+			boolean interrupted = false;
+			while (true)
+				try {
+					ForkJoinPool.managedBlock(resumeBlocker);
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+		return !cancelled;
+	}
+
+	/**
+	 * Returns true if the search is paused and not cancelled.
+	 */
+	boolean isPaused() {
+		return paused && !cancelled;
+	}
+
+	boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns the time spent in completed pauses, which workers blocked by
+	 * {@link #proceed} see updated when they resume.
+	 */
+	long pausedNanos() {
+		return pausedNanos;
+	}
+
+	@Override
+	public int getGeneration() {
+		return generation;
+	}
+
+	@Override
+	public int getFrontierSize() {
+		return frontierSize;
+	}
+
+	@Override
+	public long getVisitedSize() {
+		return visitedSize;
+	}
+
+	@Override
+	public long getStatesExpanded() {
+		return statesExpanded;
+	}
+
+	@Override
+	public double getStatesPerSecond() {
+		long running;
+		synchronized (this) {
+			long now = System.nanoTime();
+			running = now - startNanos - pausedNanos - (paused ? now - pausedAt : 0);
+		}
+		return running <= 0 ? 0 : statesExpanded * 1e9 / running;
+	}
+
+	@Override
+	public long getEstimatedMemoryBytes() {
+		return estimatedMemoryBytes;
+	}
+
+	@Override
+	public String getStatus() {
+		return cancelled ? "CANCELLED" : paused ? "PAUSED" : "RUNNING";
+	}
+
+	@Override
+	public synchronized void pause() {
+		if (paused) return;
+		pausedAt = System.nanoTime();
+		paused = true;
+	}
+
+	@Override
+	public synchronized void resume() {
+		if (!paused) return;
+		pausedNanos += System.nanoTime() - pausedAt;
+		paused = false;
+		notifyAll();
+	}
+
+	@Override
+	public synchronized void cancel() {
+		cancelled = true;
+		notifyAll();
+	}
+}
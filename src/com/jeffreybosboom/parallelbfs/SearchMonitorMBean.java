@@ -0,0 +1,56 @@
+package com.jeffreybosboom.parallelbfs;
+
+/**
+ * The JMX management interface of a running {@link ParallelBFS} search,
+ * registered by {@link ParallelBFS#monitorWithJmx}.  Attributes are updated at
+ * each generation boundary.
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public interface SearchMonitorMBean {
+	/**
+	 * Returns the generation being expanded, starting from 1, or 0 before the
+	 * first.
+	 */
+	public int getGeneration();
+
+	public int getFrontierSize();
+
+	/**
+	 * Returns the number of states in the visited set, or 0 if the search
+	 * isn't deduplicating.
+	 */
+	public long getVisitedSize();
+
+	public long getStatesExpanded();
+
+	/**
+	 * Returns the states expanded per second since the search started,
+	 * excluding time spent paused.
+	 */
+	public double getStatesPerSecond();
+
+	/**
+	 * Returns an estimate of the memory used by the frontier and visited set,
+	 * excluding the states themselves.
+	 */
+	public long getEstimatedMemoryBytes();
+
+	/**
+	 * Returns RUNNING, PAUSED or CANCELLED.
+	 */
+	public String getStatus();
+
+	/**
+	 * Makes workers block at their next state (or batch) until resumed.
+	 */
+	public void pause();
+
+	public void resume();
+
+	/**
+	 * Makes workers stop at their next state (or batch), ending the search
+	 * with {@link SearchResult.Outcome#CANCELLED}.
+	 */
+	public void cancel();
+}
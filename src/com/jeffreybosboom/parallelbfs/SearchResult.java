@@ -0,0 +1,77 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Optional;
+
+/**
+ * The result of a limited {@link ParallelBFS} search.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class SearchResult<S> {
+	public enum Outcome {
+		/**
+		 * A solution was found.
+		 */
+		SOLVED,
+		/**
+		 * The state space was exhausted without finding a solution.
+		 */
+		EXHAUSTED,
+		/**
+		 * The search stopped at its time, expansion or depth limit.
+		 */
+		BUDGET_EXCEEDED,
+		/**
+		 * The search was cancelled through its {@link SearchMonitorMBean}.
+		 */
+		CANCELLED
+	}
+
+	private final Outcome outcome;
+	private final S solution;
+	private final int depth;
+	private final long statesExpanded;
+	private final S best;
+	SearchResult(Outcome outcome, S solution, int depth, long statesExpanded, S best) {
+		this.outcome = outcome;
+		this.solution = solution;
+		this.depth = depth;
+		this.statesExpanded = statesExpanded;
+		this.best = best;
+	}
+
+	public Outcome outcome() {
+		return outcome;
+	}
+
+	public Optional<S> solution() {
+		return Optional.ofNullable(solution);
+	}
+
+	/**
+	 * Returns the number of generations expanded, including a generation
+	 * interrupted by a limit, or the solution's depth if it was completed from a
+	 * {@link DistanceCache}.
+	 */
+	public int depth() {
+		return depth;
+	}
+
+	public long statesExpanded() {
+		return statesExpanded;
+	}
+
+	/**
+	 * Returns the highest-scoring state generated, if a scoring function was
+	 * given.
+	 */
+	public Optional<S> best() {
+		return Optional.ofNullable(best);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s at depth %d after %d expansions", outcome, depth, statesExpanded);
+	}
+}
@@ -0,0 +1,61 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of {@link ParallelBFS#enumerate}: the number of states at each
+ * depth of a state space, and a sample of the states at maximum depth.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class StateSpaceCensus<S> {
+	private final long[] counts;
+	private final List<S> antipodes;
+	StateSpaceCensus(long[] counts, List<S> antipodes) {
+		this.counts = counts;
+		this.antipodes = Collections.unmodifiableList(antipodes);
+	}
+
+	/**
+	 * Returns the number of states at the given depth; the start state is at
+	 * depth 0.
+	 * @throws IllegalArgumentException if depth is negative
+	 */
+	public long count(int depth) {
+		if (depth < 0) throw new IllegalArgumentException("negative depth: "+depth);
+		return depth < counts.length ? counts[depth] : 0;
+	}
+
+	/**
+	 * Returns the number of states at each depth, indexed by depth.
+	 */
+	public long[] counts() {
+		return counts.clone();
+	}
+
+	public long totalStates() {
+		return Arrays.stream(counts).sum();
+	}
+
+	/**
+	 * Returns the depth of the deepest states.
+	 */
+	public int maxDepth() {
+		return counts.length - 1;
+	}
+
+	/**
+	 * Returns a sample of the states at maximum depth.
+	 */
+	public List<S> antipodes() {
+		return antipodes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d states, max depth %d, counts %s", totalStates(), maxDepth(), Arrays.toString(counts));
+	}
+}
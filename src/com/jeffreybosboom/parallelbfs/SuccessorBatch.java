@@ -0,0 +1,68 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of successors, filled by a
+ * {@link ParallelBFS.BatchSuccessorGenerator} and then goal-tested and filtered
+ * in place by {@link ParallelBFS.BatchPredicate}s.  Each expansion task reuses
+ * one buffer for all its batches.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public final class SuccessorBatch<S> {
+	private Object[] states;
+	private int size = 0;
+	SuccessorBatch(int initialCapacity) {
+		this.states = new Object[Math.max(initialCapacity, 16)];
+	}
+
+	public void add(S state) {
+		if (size == states.length)
+			states = Arrays.copyOf(states, states.length * 2);
+		states[size++] = state;
+	}
+
+	@SuppressWarnings("unchecked")
+	public S get(int index) {
+		if (index >= size) throw new IndexOutOfBoundsException(index+" of "+size);
+		return (S)states[index];
+	}
+
+	public void set(int index, S state) {
+		if (index >= size) throw new IndexOutOfBoundsException(index+" of "+size);
+		states[index] = state;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Ensures the buffer can hold the given number of successors without
+	 * growing.
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > states.length)
+			states = Arrays.copyOf(states, Math.max(capacity, states.length * 2));
+	}
+
+	void clear() {
+		Arrays.fill(states, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * Removes the successors whose entry in the mask is false, preserving the
+	 * order of the others.
+	 */
+	void retain(boolean[] mask) {
+		int j = 0;
+		for (int i = 0; i < size; ++i)
+			if (mask[i])
+				states[j++] = states[i];
+		Arrays.fill(states, j, size, null);
+		size = j;
+	}
+}
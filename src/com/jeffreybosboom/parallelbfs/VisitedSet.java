@@ -0,0 +1,78 @@
+package com.jeffreybosboom.parallelbfs;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * One shard of a {@link ParallelBFS} visited set.  Each shard is only accessed
+ * by one thread at a time, so implementations need not be thread-safe.
+ * Approximate implementations may report a state as visited when it wasn't,
+ * causing the search to omit it.
+ * @param <S> the state type
+ * @author Jeffrey Bosboom <jbosboom@csail.mit.edu>
+ * @since 10/19/2026
+ */
+public interface VisitedSet<S> {
+	/**
+	 * Marks the given state visited, returning true if it was not already
+	 * (believed to be) visited.
+	 */
+	public boolean add(S state);
+
+	/**
+	 * Returns the number of states added.
+	 */
+	public long size();
+
+	/**
+	 * Returns true if this set never reports an unvisited state as visited, so
+	 * its {@link #omissionProbability} is always 0.  Searches only record
+	 * distances in a {@link DistanceCache} when every shard is exact.
+	 * Approximate implementations must override this to return false.
+	 */
+	public default boolean isExact() {
+		return true;
+	}
+
+	/**
+	 * Returns the probability that a new, unvisited state would be wrongly
+	 * reported as visited by {@link #add}, given the set's current occupancy.
+	 */
+	public default double omissionProbability() {
+		return 0;
+	}
+
+	/**
+	 * Returns the probability that at least one state added so far was wrongly
+	 * reported as visited.
+	 */
+	public default double collisionProbability() {
+		return 0;
+	}
+
+	/**
+	 * Returns an estimate of the memory used by this set, excluding the states
+	 * themselves.  The default assumes a {@link HashSet}'s table slot and node
+	 * per state.
+	 */
+	public default long estimatedBytes() {
+		return size() * 48;
+	}
+
+	/**
+	 * Returns an exact visited set backed by a {@link HashSet}.
+	 */
+	public static <S> VisitedSet<S> exact() {
+		return new VisitedSet<S>() {
+			private final Set<S> set = new HashSet<>();
+			@Override
+			public boolean add(S state) {
+				return set.add(state);
+			}
+			@Override
+			public long size() {
+				return set.size();
+			}
+		};
+	}
+}